@@ -0,0 +1,49 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.dto.FacilityDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.entity.Booking;
+import com.cargopro.entity.Facility;
+import com.cargopro.entity.Load;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.LoadStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Representative payloads shared by the benchmarks
+final class BenchmarkFixtures {
+    
+    static final String[] TRUCK_TYPES = {"Container", "Flatbed", "Tanker", "Reefer"};
+    static final int SHIPPERS = 50;
+    
+    private BenchmarkFixtures() {}
+    
+    static LoadDto loadDto(int i) {
+        LocalDateTime loadingDate = LocalDateTime.of(2024, 1, 15, 8, 0).plusHours(i);
+        FacilityDto facility = new FacilityDto("Mumbai Port " + i, "Delhi Warehouse " + i, 
+            loadingDate, loadingDate.plusDays(2));
+        return new LoadDto(UUID.randomUUID(), "SHIPPER" + (i % SHIPPERS), facility, "Electronics", 
+            TRUCK_TYPES[i % TRUCK_TYPES.length], 1 + i % 5, 10.0 + i % 20, "Handle with care", 
+            loadingDate.minusDays(1), LoadStatus.POSTED);
+    }
+    
+    static Load load(int i) {
+        LocalDateTime loadingDate = LocalDateTime.of(2024, 1, 15, 8, 0).plusHours(i);
+        Facility facility = new Facility("Mumbai Port " + i, "Delhi Warehouse " + i, 
+            loadingDate, loadingDate.plusDays(2));
+        Load load = new Load("SHIPPER" + (i % SHIPPERS), facility, "Electronics", 
+            TRUCK_TYPES[i % TRUCK_TYPES.length], 1 + i % 5, 10.0 + i % 20, "Handle with care");
+        load.setId(UUID.randomUUID());
+        load.setDatePosted(loadingDate.minusDays(1));
+        return load;
+    }
+    
+    static Booking booking(Load load, int i) {
+        Booking booking = new Booking(load, "TRANS" + i, 25000.0 + i, "Can deliver within 2 days");
+        booking.setId(UUID.randomUUID());
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setRequestedAt(LocalDateTime.of(2024, 1, 16, 9, 0).plusMinutes(i));
+        return booking;
+    }
+}
@@ -0,0 +1,190 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.LoadBookingSystemApplication;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.service.LoadService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop GET /load load test for tail latency; without --base-url it starts the app in-process on H2
+public final class HttpLoadGenerator {
+    
+    private static final int LOADS = 5_000;
+    private static final String QUERY = "/load?truckType=Container&status=POSTED&size=20";
+    
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(30))
+        .build();
+    private final HttpRequest request;
+    private final AtomicLong ok = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    
+    private volatile boolean recording;
+    private volatile boolean running = true;
+    
+    private HttpLoadGenerator(String baseUrl) {
+        this.request = HttpRequest.newBuilder(URI.create(baseUrl + QUERY))
+            .timeout(Duration.ofSeconds(60))
+            .build();
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String profiles = options.getOrDefault("profiles", "h2");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "5000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            context = startApplication(profiles);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        
+        try {
+            HttpLoadGenerator generator = new HttpLoadGenerator(baseUrl);
+            List<long[]> latencies = generator.run(clients, warmup, duration);
+            generator.report(profiles, clients, duration, latencies);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+    
+    private static ConfigurableApplicationContext startApplication(String profiles) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadBookingSystemApplication.class)
+            .profiles(profiles.split(","))
+            .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+                 "--server.tomcat.max-connections=20000");
+        
+        List<LoadDto> loads = new ArrayList<>(LOADS);
+        for (int i = 0; i < LOADS; i++) {
+            loads.add(BenchmarkFixtures.loadDto(i));
+        }
+        context.getBean(LoadService.class).createLoads(loads);
+        return context;
+    }
+    
+    private List<long[]> run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        List<LatencyLog> logs = new ArrayList<>(clients);
+        List<CompletableFuture<Void>> loops = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            LatencyLog log = new LatencyLog();
+            logs.add(log);
+            loops.add(loop(log));
+        }
+        
+        Thread.sleep(warmup.toMillis());
+        recording = true;
+        Thread.sleep(duration.toMillis());
+        recording = false;
+        running = false;
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        
+        List<long[]> latencies = new ArrayList<>(clients);
+        for (LatencyLog log : logs) {
+            latencies.add(log.toArray());
+        }
+        return latencies;
+    }
+    
+    // One client: send, wait for the response, send again until stopped
+    private CompletableFuture<Void> loop(LatencyLog log) {
+        if (!running) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        boolean measured = recording;
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, failure) -> {
+                if (measured) {
+                    record(response, failure);
+                    log.add(System.nanoTime() - start);
+                }
+                return null;
+            })
+            .thenCompose(ignored -> loop(log));
+    }
+    
+    private void record(HttpResponse<?> response, Throwable failure) {
+        if (failure != null) {
+            errors.incrementAndGet();
+        } else if (response.statusCode() == 200) {
+            ok.incrementAndGet();
+        } else if (response.statusCode() == 503) {
+            rejected.incrementAndGet();
+        } else {
+            errors.incrementAndGet();
+        }
+    }
+    
+    private void report(String profiles, int clients, Duration duration, List<long[]> perClient) {
+        int total = perClient.stream().mapToInt(latencies -> latencies.length).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] latencies : perClient) {
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(all);
+        
+        System.out.printf("profiles=%s clients=%d duration=%ds%n", profiles, clients, duration.toSeconds());
+        System.out.printf("requests=%d ok=%d rejected(503)=%d errors=%d throughput=%.1f req/s%n",
+            total, ok.get(), rejected.get(), errors.get(), total / (double) duration.toSeconds());
+        if (total > 0) {
+            System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                percentile(all, 0.999), all[all.length - 1] / 1e6);
+        }
+    }
+    
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+    
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+    
+    // Written by one client's completion chain at a time, read after all loops have finished
+    private static final class LatencyLog {
+        
+        private long[] values = new long[256];
+        private int size;
+        
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
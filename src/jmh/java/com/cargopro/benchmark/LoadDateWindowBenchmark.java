@@ -0,0 +1,180 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.LoadBookingSystemApplication;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.CountMode;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.service.LoadService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /load date windows and count modes over 10M seeded loads; needs -p datasourceUrl or an in-memory profile
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LoadDateWindowBenchmark {
+    
+    private static final String SHIPPER_PREFIX = "BENCH-WINDOW-";
+    private static final LocalDateTime FIRST_LOADING_DATE = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int LOADING_DAYS = 730;
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final String[] STATUSES = {"POSTED", "BOOKED", "CANCELLED", "BOOKED"};
+    private static final List<String> IN_MEMORY_PROFILES = List.of("test", "h2");
+    
+    @Param("10000000")
+    private int rows;
+    
+    // Comma-separated Spring profiles; "test" runs against in-memory H2 (size the heap for the row count)
+    @Param("")
+    private String profiles;
+    
+    // JDBC URL of a scratch database to seed; credentials come from SPRING_DATASOURCE_USERNAME/PASSWORD
+    @Param("")
+    private String datasourceUrl;
+    
+    private ConfigurableApplicationContext context;
+    private LoadService loadService;
+    
+    @Setup(Level.Trial)
+    public void startApplication() {
+        String[] activeProfiles = profiles.isEmpty() ? new String[0] : profiles.split(",");
+        boolean inMemory = Arrays.stream(activeProfiles).map(String::trim).anyMatch(IN_MEMORY_PROFILES::contains);
+        if (datasourceUrl.isEmpty() && !inMemory) {
+            throw new IllegalStateException("LoadDateWindowBenchmark seeds " + rows + " loads and runs ANALYZE; " +
+                "pass -p datasourceUrl=<jdbc url of a scratch database> or -p profiles=test");
+        }
+        
+        context = new SpringApplicationBuilder(LoadBookingSystemApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles(activeProfiles)
+            .properties(
+                "spring.jpa.show-sql=false",
+                "cargopro.outbox.relay-enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.cargopro=WARN",
+                "logging.level.org.springframework.web=WARN")
+            // As a command-line argument so it wins over application.yml and the environment
+            .run(datasourceUrl.isEmpty() ? new String[0] : new String[] {"--spring.datasource.url=" + datasourceUrl});
+        loadService = context.getBean(LoadService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+    
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+    
+    // Transporters looking for open work: POSTED loads picking up in the next 48 hours
+    @Benchmark
+    public Page<LoadDto> postedLoadingWithin48Hours() {
+        LocalDateTime from = randomWindowStart();
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED, from, from.plusHours(48), null, null);
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("datePosted").descending());
+        return loadService.getLoads(filter, pageable);
+    }
+    
+    // Same window without the count query
+    @Benchmark
+    public CursorPage<LoadDto> postedLoadingWithin48HoursByCursor() {
+        LocalDateTime from = randomWindowStart();
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED, from, from.plusHours(48), null, null);
+        return loadService.getLoadsByCursor(filter, null, 20);
+    }
+    
+    // Any status, delivering within a day
+    @Benchmark
+    public Page<LoadDto> unloadingWithin24Hours() {
+        LocalDateTime from = randomWindowStart().plusDays(2);
+        LoadFilter filter = new LoadFilter(null, null, null, null, null, from, from.plusHours(24));
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("datePosted").descending());
+        return loadService.getLoads(filter, pageable);
+    }
+    
+    // Every POSTED load, a quarter of the table, under each way of computing the total
+    @Benchmark
+    public PageResponse<LoadDto> allPostedExactCount() {
+        return allPosted(CountMode.EXACT);
+    }
+    
+    @Benchmark
+    public PageResponse<LoadDto> allPostedEstimatedCount() {
+        return allPosted(CountMode.ESTIMATED);
+    }
+    
+    @Benchmark
+    public PageResponse<LoadDto> allPostedWithoutCount() {
+        return allPosted(CountMode.NONE);
+    }
+    
+    private PageResponse<LoadDto> allPosted(CountMode countMode) {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("datePosted").descending());
+        return loadService.getLoads(new LoadFilter(null, null, LoadStatus.POSTED), pageable, countMode);
+    }
+    
+    private static LocalDateTime randomWindowStart() {
+        return FIRST_LOADING_DATE.plusHours(ThreadLocalRandom.current().nextInt((LOADING_DAYS - 2) * 24));
+    }
+    
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM loads WHERE shipper_id LIKE ?", Integer.class, SHIPPER_PREFIX + "%");
+        if (existing != null && existing >= rows) {
+            return;
+        }
+        
+        long spreadMinutes = LOADING_DAYS * 24L * 60;
+        for (int offset = existing == null ? 0 : existing; offset < rows; offset += SEED_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + SEED_BATCH_SIZE, rows); i++) {
+                LocalDateTime loadingDate = FIRST_LOADING_DATE.plusMinutes(i * spreadMinutes / rows);
+                batch.add(new Object[] {
+                    UUID.randomUUID(), SHIPPER_PREFIX + (i % BenchmarkFixtures.SHIPPERS),
+                    "Mumbai Port " + i % 500, "Delhi Warehouse " + i % 500,
+                    Timestamp.valueOf(loadingDate), Timestamp.valueOf(loadingDate.plusHours(24 + i % 72)),
+                    "Electronics", BenchmarkFixtures.TRUCK_TYPES[i % BenchmarkFixtures.TRUCK_TYPES.length],
+                    1 + i % 5, 10.0 + i % 20, Timestamp.valueOf(loadingDate.minusDays(1 + i % 14)),
+                    STATUSES[i % STATUSES.length]
+                });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO loads (id, shipper_id, loading_point, unloading_point, loading_date, " +
+                "unloading_date, product_type, truck_type, no_of_trucks, weight, date_posted, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+        // Fresh statistics so the planner sees the real date distribution
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
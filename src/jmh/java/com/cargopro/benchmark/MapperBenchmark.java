@@ -0,0 +1,64 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.entity.Booking;
+import com.cargopro.entity.Load;
+import com.cargopro.mapper.BookingMapper;
+import com.cargopro.mapper.LoadMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    
+    private final LoadMapper loadMapper = new LoadMapper();
+    private final BookingMapper bookingMapper = new BookingMapper();
+    
+    private Load load;
+    private LoadDto loadDto;
+    private Booking booking;
+    
+    @Setup
+    public void setUp() {
+        load = BenchmarkFixtures.load(1);
+        loadDto = BenchmarkFixtures.loadDto(2);
+        booking = BenchmarkFixtures.booking(load, 1);
+    }
+    
+    @Benchmark
+    public LoadDto loadToDto() {
+        return loadMapper.toDto(load);
+    }
+    
+    @Benchmark
+    public Load loadToEntity() {
+        return loadMapper.toEntity(loadDto);
+    }
+    
+    @Benchmark
+    public Load loadUpdateEntityFromDto() {
+        loadMapper.updateEntityFromDto(loadDto, load);
+        return load;
+    }
+    
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return bookingMapper.toDto(booking);
+    }
+}
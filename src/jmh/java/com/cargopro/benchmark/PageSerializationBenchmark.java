@@ -0,0 +1,59 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.dto.LoadDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+// Response body cost of GET /load, using the same Jackson setup as the application
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+    
+    @Param({"10", "100"})
+    private int pageSize;
+    
+    private ObjectMapper objectMapper;
+    private Page<LoadDto> page;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .timeZone(TimeZone.getTimeZone("UTC"))
+            .build();
+        
+        List<LoadDto> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(BenchmarkFixtures.loadDto(i));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("datePosted").descending()), 10_000);
+    }
+    
+    @Benchmark
+    public byte[] serializeLoadPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,81 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.LoadBookingSystemApplication;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.service.LoadService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /load throughput with development logging against the prod overlay, both on embedded H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class ProfileThroughputBenchmark {
+    
+    private static final int LOADS = 5_000;
+    
+    @Param({"h2", "h2,prod"})
+    private String profiles;
+    
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest getLoads;
+    
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(LoadBookingSystemApplication.class)
+            .profiles(profiles.split(","))
+            .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:profiles;DB_CLOSE_DELAY=-1");
+        
+        List<LoadDto> loads = new ArrayList<>(LOADS);
+        for (int i = 0; i < LOADS; i++) {
+            loads.add(BenchmarkFixtures.loadDto(i));
+        }
+        context.getBean(LoadService.class).createLoads(loads);
+        
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newHttpClient();
+        getLoads = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + "/load?truckType=Container&status=POSTED&size=20")).build();
+    }
+    
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+    
+    @Benchmark
+    public int getLoads() throws Exception {
+        HttpResponse<byte[]> response = client.send(getLoads, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /load returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
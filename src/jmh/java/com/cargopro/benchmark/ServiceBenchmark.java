@@ -0,0 +1,98 @@
+package com.cargopro.benchmark;
+
+import com.cargopro.LoadBookingSystemApplication;
+import com.cargopro.dto.BatchItemResult;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.service.BookingService;
+import com.cargopro.service.LoadService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// End-to-end service calls, including transactions and SQL, against an embedded H2 database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServiceBenchmark {
+    
+    private static final int LOADS = 10_000;
+    private static final int SEED_BATCH_SIZE = 5_000;
+    
+    private ConfigurableApplicationContext context;
+    private LoadService loadService;
+    private BookingService bookingService;
+    private List<UUID> loadIds;
+    private final AtomicLong bids = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(LoadBookingSystemApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.cargopro=WARN",
+                "logging.level.org.springframework.web=WARN")
+            .run();
+        loadService = context.getBean(LoadService.class);
+        bookingService = context.getBean(BookingService.class);
+        
+        loadIds = new ArrayList<>(LOADS);
+        for (int offset = 0; offset < LOADS; offset += SEED_BATCH_SIZE) {
+            List<LoadDto> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = offset; i < offset + SEED_BATCH_SIZE; i++) {
+                batch.add(BenchmarkFixtures.loadDto(i));
+            }
+            for (BatchItemResult result : loadService.createLoads(batch).getResults()) {
+                loadIds.add(result.getId());
+            }
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Page<LoadDto> getLoads() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("datePosted").descending());
+        return loadService.getLoads(new LoadFilter("SHIPPER7", "Container", null), pageable);
+    }
+    
+    @Benchmark
+    public BookingDto createBooking() {
+        long bid = bids.incrementAndGet();
+        UUID loadId = loadIds.get((int) (bid % loadIds.size()));
+        return bookingService.createBooking(new BookingDto(null, loadId, "TRANS" + bid, 25000.0, null, null, null));
+    }
+}
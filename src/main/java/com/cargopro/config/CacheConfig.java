@@ -0,0 +1,32 @@
+package com.cargopro.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String LOADS = "loads";
+    
+    // Evictions are deferred until the surrounding transaction commits; evicting earlier would let a
+    // concurrent reader re-cache the old row before the new one is visible
+    @Bean
+    public CacheManager cacheManager(@Value("${cargopro.cache.loads.maximum-size:10000}") long maximumSize,
+                                     @Value("${cargopro.cache.loads.expire-after-write:5m}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(LOADS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
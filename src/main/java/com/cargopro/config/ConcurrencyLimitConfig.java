@@ -0,0 +1,28 @@
+package com.cargopro.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Backpressure for virtual-thread mode, where the servlet container no longer bounds concurrency
+@Configuration
+@ConditionalOnProperty(prefix = "cargopro.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+    
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${cargopro.concurrency-limit.max-concurrent-requests:20}") int maxConcurrentRequests,
+            @Value("${cargopro.concurrency-limit.acquire-timeout:5s}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout, objectMapper));
+        // Not /events: SSE subscribers stay connected indefinitely and are capped by ChangeEventBroadcaster
+        registration.addUrlPatterns("/load/*", "/booking/*");
+        return registration;
+    }
+}
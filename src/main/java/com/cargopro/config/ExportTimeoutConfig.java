@@ -0,0 +1,43 @@
+package com.cargopro.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+// Streaming exports outlive spring.mvc.async.request-timeout, so they get a timeout of their own
+@Configuration
+public class ExportTimeoutConfig implements WebMvcConfigurer {
+    
+    private static final Set<String> EXPORT_PATHS = Set.of("/load/export", "/booking/export");
+    
+    private final Duration exportTimeout;
+    
+    public ExportTimeoutConfig(@Value("${cargopro.export.timeout:30m}") Duration exportTimeout) {
+        this.exportTimeout = exportTimeout;
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // Runs before the async request starts, while its timeout can still be changed
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+                if (request instanceof AsyncWebRequest asyncWebRequest && EXPORT_PATHS.contains(pattern)) {
+                    asyncWebRequest.setTimeout(exportTimeout.toMillis());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.cargopro.config;
+
+import com.cargopro.idempotency.IdempotencyFilter;
+import com.cargopro.idempotency.IdempotencyStore;
+import com.cargopro.idempotency.InMemoryIdempotencyStore;
+import com.cargopro.idempotency.JdbcIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+// Idempotency-Key support on the create endpoints; requests without the header are not affected
+@Configuration
+@ConditionalOnProperty(prefix = "cargopro.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "cargopro.idempotency", name = "store", havingValue = "jdbc")
+    public JdbcIdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+            @Value("${cargopro.idempotency.ttl:24h}") Duration ttl,
+            @Value("${cargopro.idempotency.in-progress-timeout:1m}") Duration inProgressTimeout) {
+        return new JdbcIdempotencyStore(jdbcTemplate, ttl, inProgressTimeout);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(ObjectProvider<IdempotencyStore> store,
+            ObjectMapper objectMapper,
+            @Value("${cargopro.idempotency.maximum-size:100000}") long maximumSize,
+            @Value("${cargopro.idempotency.ttl:24h}") Duration ttl) {
+        // Any IdempotencyStore bean, such as the JDBC one, replaces the in-memory default
+        IdempotencyStore idempotencyStore = store.getIfAvailable(() -> new InMemoryIdempotencyStore(maximumSize, ttl));
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+            new IdempotencyFilter(idempotencyStore, objectMapper));
+        registration.addUrlPatterns("/load", "/booking");
+        return registration;
+    }
+}
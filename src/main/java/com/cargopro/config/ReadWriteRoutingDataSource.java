@@ -0,0 +1,101 @@
+package com.cargopro.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Routes read-only transactions to a replica in rotation and the rest, or a pinned thread, to the primary
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    
+    static final String PRIMARY = "primary";
+    
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final List<String> replicaKeys;
+    private final Set<String> lagging = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            this.replicas.put(key, replicas.get(i));
+            targets.put(key, replicas.get(i));
+        }
+        this.replicaKeys = List.copyOf(this.replicas.keySet());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+    
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+    
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+    
+    // Only takes effect when the action's statements are the first of their transaction, since the connection
+    // is chosen by the first one; leaves an existing pin in place
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PINNED_TO_PRIMARY.get() != null) {
+            return action.get();
+        }
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            unpin();
+        }
+    }
+    
+    public Map<String, DataSource> getReplicas() {
+        return Collections.unmodifiableMap(replicas);
+    }
+    
+    public void setLagging(String replica, boolean isLagging) {
+        if (isLagging) {
+            lagging.add(replica);
+        } else {
+            lagging.remove(replica);
+        }
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PINNED_TO_PRIMARY.get() != null) {
+            return PRIMARY;
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(Math.floorMod(start + i, replicaKeys.size()));
+            if (!lagging.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+    
+    // The primary is a bean of its own and closed by the container; the replica pools are owned here
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.cargopro.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Takes a replica out of rotation while it lags more than the maximum or its lag query fails
+public class ReplicaLagMonitor implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, String lagQuery, 
+                             Duration maxLag, Duration interval) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.interval = interval;
+    }
+    
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    public void checkReplicas() {
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            boolean isLagging;
+            try {
+                double lagSeconds = measureLag(replica.getValue());
+                isLagging = lagSeconds * 1000 > maxLag.toMillis();
+                if (isLagging) {
+                    log.warn("Replica {} is {}s behind the primary, reading from other replicas", 
+                        replica.getKey(), lagSeconds);
+                }
+            } catch (Exception e) {
+                isLagging = true;
+                log.warn("Replica {} lag check failed, reading from other replicas: {}", 
+                    replica.getKey(), e.getMessage());
+            }
+            routingDataSource.setLagging(replica.getKey(), isLagging);
+        }
+    }
+    
+    private double measureLag(DataSource replica) throws Exception {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, interval.toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                return resultSet.getDouble(1);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
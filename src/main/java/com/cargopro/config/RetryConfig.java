@@ -0,0 +1,10 @@
+package com.cargopro.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// Retry advice is ordered just outside the transaction advice, so every attempt gets a fresh transaction
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,28 @@
+package com.cargopro.config;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Retries a lost optimistic-locking or lock race with jittered backoff; only for methods that start their own transaction
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+    retryFor = ConcurrencyFailureException.class,
+    maxAttemptsExpression = "${cargopro.retry.max-attempts:5}",
+    backoff = @Backoff(
+        delayExpression = "${cargopro.retry.initial-delay-ms:10}",
+        maxDelayExpression = "${cargopro.retry.max-delay-ms:200}",
+        multiplier = 2,
+        random = true
+    )
+)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,10 @@
+package com.cargopro.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs such as the outbox relay
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
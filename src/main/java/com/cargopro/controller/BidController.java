@@ -0,0 +1,50 @@
+package com.cargopro.controller;
+
+import com.cargopro.dto.TopBids;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.service.BookingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/load/{loadId}/bids")
+@Tag(name = "Booking Management", description = "APIs for managing bookings")
+public class BidController {
+    
+    private final BookingService bookingService;
+    
+    @Autowired
+    public BidController(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+    
+    @GetMapping("/top")
+    @Operation(summary = "Get the lowest-rate bids on a load", 
+               description = "Returns up to k bookings of the given status on the load, lowest proposed rate first, " +
+                             "with the count and min/avg/max rate of all of the load's bookings of that status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bids retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+        @ApiResponse(responseCode = "404", description = "Load not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TopBids> getTopBids(
+            @Parameter(description = "Load ID") @PathVariable UUID loadId,
+            @Parameter(description = "Number of bids to return (1-100)") @RequestParam(defaultValue = "10") int k,
+            @Parameter(description = "Booking status of the bids") @RequestParam(defaultValue = "PENDING") BookingStatus status) {
+        TopBids topBids = bookingService.getTopBids(loadId, status, k);
+        return ResponseEntity.ok(topBids);
+    }
+}
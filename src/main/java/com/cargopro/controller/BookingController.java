@@ -1,23 +1,34 @@
 package com.cargopro.controller;
 
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDecisionResponse;
 import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.BookingSortField;
 import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.CountMode;
+import com.cargopro.exception.BusinessException;
 import com.cargopro.service.BookingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,18 +37,27 @@ import java.util.UUID;
 public class BookingController {
     
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
+    private final CountMode defaultCountMode;
     
     @Autowired
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, ObjectMapper objectMapper,
+                             @Value("${cargopro.pagination.default-count-mode:EXACT}") CountMode defaultCountMode) {
         this.bookingService = bookingService;
+        this.objectMapper = objectMapper;
+        this.defaultCountMode = defaultCountMode;
     }
     
     @PostMapping
     @Operation(summary = "Create a new booking", description = "Creates a new booking for a load")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", 
+               description = "Client-chosen key; a retry with the same key and body returns the original response")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Booking created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input data or business rule violation"),
         @ApiResponse(responseCode = "404", description = "Load not found"),
+        @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still in progress"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<BookingDto> createBooking(@Valid @RequestBody BookingDto bookingDto) {
@@ -45,30 +65,92 @@ public class BookingController {
         return new ResponseEntity<>(createdBooking, HttpStatus.CREATED);
     }
     
+    @PostMapping("/decisions")
+    @Operation(summary = "Accept or reject bookings in bulk", 
+               description = "Applies ACCEPTED or REJECTED decisions across any number of loads in one transaction, " +
+                             "handling each affected load once. Accepting a booking rejects the load's other pending " +
+                             "bookings. Invalid decisions are reported per item and do not abort the others")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Decisions processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Request exceeds the maximum number of decisions"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BookingDecisionResponse> decideBookings(@RequestBody List<BookingDecision> decisions) {
+        BookingDecisionResponse response = bookingService.decideBookings(decisions);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping
-    @Operation(summary = "Get bookings with filters", description = "Retrieves bookings with optional filtering and pagination")
+    @Operation(summary = "Get bookings with filters", 
+               description = "Retrieves bookings with optional filtering and pagination. count=ESTIMATED returns the planner's " +
+                             "estimate of the total instead of counting every match; count=NONE omits the total")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid parameters"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Page<BookingDto>> getBookings(
+    public ResponseEntity<PageResponse<BookingDto>> getBookings(
             @Parameter(description = "Filter by load ID") @RequestParam(required = false) UUID loadId,
             @Parameter(description = "Filter by transporter ID") @RequestParam(required = false) String transporterId,
             @Parameter(description = "Filter by status") @RequestParam(required = false) BookingStatus status,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "requestedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort field, one an index serves: requestedAt, or proposedRate with loadId and status") @RequestParam(defaultValue = "requestedAt") String sortBy,
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "How the total is computed; defaults to cargopro.pagination.default-count-mode") @RequestParam(required = false) CountMode count) {
         
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        List<BookingSortField> sortFields = SortParameters.parseFields(sortBy, BookingSortField.class);
+        for (BookingSortField field : sortFields) {
+            if (field.isRequiresLoadAndStatus() && (loadId == null || status == null)) {
+                throw new BusinessException("Sorting by " + field.getParameter() + " requires loadId and status filters");
+            }
+        }
+        Pageable pageable = PageRequest.of(page, size,
+            SortParameters.toSort(sortFields, sortDir, BookingSortField.INDEXED_SORTS));
         
-        Page<BookingDto> bookings = bookingService.getBookings(loadId, transporterId, status, pageable);
+        PageResponse<BookingDto> bookings = bookingService.getBookings(loadId, transporterId, status, pageable,
+            count == null ? defaultCountMode : count);
         return ResponseEntity.ok(bookings);
     }
     
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get bookings with cursor pagination", 
+               description = "Retrieves bookings newest first using keyset pagination. Pass an empty cursor for the first page " +
+                             "and the returned nextCursor for subsequent pages; no total count is computed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters or cursor"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPage<BookingDto>> getBookingsByCursor(
+            @Parameter(description = "Filter by load ID") @RequestParam(required = false) UUID loadId,
+            @Parameter(description = "Filter by transporter ID") @RequestParam(required = false) String transporterId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) BookingStatus status,
+            @Parameter(description = "Continuation token from the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        
+        CursorPage<BookingDto> bookings = bookingService.getBookingsByCursor(loadId, transporterId, status, cursor, size);
+        return ResponseEntity.ok(bookings);
+    }
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export bookings", 
+               description = "Streams every booking matching the filters as newline-delimited JSON, newest first. " +
+                             "Rows are written as they are read, so exports of any size run in constant memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Filter by load ID") @RequestParam(required = false) UUID loadId,
+            @Parameter(description = "Filter by transporter ID") @RequestParam(required = false) String transporterId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) BookingStatus status) {
+        
+        return NdjsonResponses.<BookingDto>attachment(objectMapper, "bookings.ndjson",
+            consumer -> bookingService.exportBookings(loadId, transporterId, status, consumer));
+    }
+    
     @GetMapping("/{bookingId}")
     @Operation(summary = "Get booking by ID", description = "Retrieves a specific booking by its ID")
     @ApiResponses(value = {
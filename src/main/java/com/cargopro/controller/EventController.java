@@ -0,0 +1,62 @@
+package com.cargopro.controller;
+
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.event.ChangeEventBroadcaster;
+import com.cargopro.event.ChangeEventFilter;
+import com.cargopro.exception.BusinessException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/events")
+@Tag(name = "Events", description = "Push notifications of load and booking changes")
+public class EventController {
+    
+    private final ChangeEventBroadcaster broadcaster;
+    
+    @Autowired
+    public EventController(ChangeEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+    
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to load and booking changes", 
+               description = "Server-sent event stream of committed changes, one event per change, named after its " +
+                             "type (LOAD_CREATED, LOAD_STATUS_CHANGED, BOOKING_CREATED, BOOKING_UPDATED, BOOKING_DELETED, " +
+                             "BOOKINGS_REJECTED). " +
+                             "A RESYNC event means events were dropped for a slow client and the state should be re-read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+        @ApiResponse(responseCode = "503", description = "Subscriber limit reached")
+    })
+    public SseEmitter subscribe(
+            @Parameter(description = "Only changes to loads of this shipper") @RequestParam(required = false) String shipperId,
+            @Parameter(description = "Only changes to loads with this truck type") @RequestParam(required = false) String truckType,
+            @Parameter(description = "Only events with this load status (load events) or booking status (booking events)") 
+            @RequestParam(required = false) String status) {
+        if (status != null && !isKnownStatus(status)) {
+            throw new BusinessException("Unknown status: " + status);
+        }
+        return broadcaster.subscribe(new ChangeEventFilter(shipperId, truckType, status));
+    }
+    
+    private boolean isKnownStatus(String status) {
+        return Stream.concat(Arrays.stream(LoadStatus.values()), Arrays.stream(BookingStatus.values()))
+            .anyMatch(value -> value.name().equals(status));
+    }
+}
@@ -1,23 +1,37 @@
 package com.cargopro.controller;
 
+import com.cargopro.dto.BatchResponse;
+import com.cargopro.dto.CursorPage;
 import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.CountMode;
+import com.cargopro.enums.LaneMatch;
+import com.cargopro.enums.LoadSortField;
 import com.cargopro.enums.LoadStatus;
 import com.cargopro.service.LoadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,17 +40,26 @@ import java.util.UUID;
 public class LoadController {
     
     private final LoadService loadService;
+    private final ObjectMapper objectMapper;
+    private final CountMode defaultCountMode;
     
     @Autowired
-    public LoadController(LoadService loadService) {
+    public LoadController(LoadService loadService, ObjectMapper objectMapper,
+                          @Value("${cargopro.pagination.default-count-mode:EXACT}") CountMode defaultCountMode) {
         this.loadService = loadService;
+        this.objectMapper = objectMapper;
+        this.defaultCountMode = defaultCountMode;
     }
     
     @PostMapping
     @Operation(summary = "Create a new load", description = "Creates a new load with POSTED status")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", 
+               description = "Client-chosen key; a retry with the same key and body returns the original response")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Load created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "409", description = "A request with this Idempotency-Key is still in progress"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<LoadDto> createLoad(@Valid @RequestBody LoadDto loadDto) {
@@ -44,30 +67,125 @@ public class LoadController {
         return new ResponseEntity<>(createdLoad, HttpStatus.CREATED);
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Create loads in bulk", 
+               description = "Validates each load independently and creates the valid ones with POSTED status. " +
+                             "Invalid loads are reported per item and do not abort the batch")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Batch exceeds the maximum size"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BatchResponse> createLoads(@RequestBody List<LoadDto> loadDtos) {
+        BatchResponse response = loadService.createLoads(loadDtos);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping
-    @Operation(summary = "Get loads with filters", description = "Retrieves loads with optional filtering and pagination")
+    @Operation(summary = "Get loads with filters", 
+               description = "Retrieves loads with optional filtering and pagination. count=ESTIMATED returns the planner's " +
+                             "estimate of the total instead of counting every match; count=NONE omits the total")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Loads retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid parameters"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Page<LoadDto>> getLoads(
+    public ResponseEntity<PageResponse<LoadDto>> getLoads(
             @Parameter(description = "Filter by shipper ID") @RequestParam(required = false) String shipperId,
             @Parameter(description = "Filter by truck type") @RequestParam(required = false) String truckType,
             @Parameter(description = "Filter by status") @RequestParam(required = false) LoadStatus status,
+            @Parameter(description = "Loading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingFrom,
+            @Parameter(description = "Loading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingTo,
+            @Parameter(description = "Unloading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingFrom,
+            @Parameter(description = "Unloading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingTo,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "datePosted") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort field, one an index serves: datePosted, loadingDate or unloadingDate") @RequestParam(defaultValue = "datePosted") String sortBy,
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "How the total is computed; defaults to cargopro.pagination.default-count-mode") @RequestParam(required = false) CountMode count) {
         
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Sort sort = SortParameters.toSort(SortParameters.parseFields(sortBy, LoadSortField.class), sortDir,
+            LoadSortField.INDEXED_SORTS);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<LoadDto> loads = loadService.getLoads(shipperId, truckType, status, pageable);
+        LoadFilter filter = new LoadFilter(shipperId, truckType, status, loadingFrom, loadingTo, unloadingFrom, unloadingTo);
+        PageResponse<LoadDto> loads = loadService.getLoads(filter, pageable, count == null ? defaultCountMode : count);
+        return ResponseEntity.ok(loads);
+    }
+    
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get loads with cursor pagination", 
+               description = "Retrieves loads newest first using keyset pagination. Pass an empty cursor for the first page " +
+                             "and the returned nextCursor for subsequent pages; no total count is computed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Loads retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters or cursor"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPage<LoadDto>> getLoadsByCursor(
+            @Parameter(description = "Filter by shipper ID") @RequestParam(required = false) String shipperId,
+            @Parameter(description = "Filter by truck type") @RequestParam(required = false) String truckType,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) LoadStatus status,
+            @Parameter(description = "Loading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingFrom,
+            @Parameter(description = "Loading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingTo,
+            @Parameter(description = "Unloading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingFrom,
+            @Parameter(description = "Unloading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingTo,
+            @Parameter(description = "Continuation token from the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        
+        LoadFilter filter = new LoadFilter(shipperId, truckType, status, loadingFrom, loadingTo, unloadingFrom, unloadingTo);
+        CursorPage<LoadDto> loads = loadService.getLoadsByCursor(filter, cursor, size);
+        return ResponseEntity.ok(loads);
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Search loads by lane", 
+               description = "Finds loads by loading point (from) and/or unloading point (to), case-insensitively, newest " +
+                             "first. PREFIX matches points starting with the given text; FUZZY also tolerates typos. " +
+                             "Paginated like the cursor listing: omit the cursor for the first page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Loads retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Neither from nor to given, or invalid parameters or cursor"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPage<LoadDto>> searchLoads(
+            @Parameter(description = "Loading point") @RequestParam(required = false) String from,
+            @Parameter(description = "Unloading point") @RequestParam(required = false) String to,
+            @Parameter(description = "How points are matched") @RequestParam(defaultValue = "PREFIX") LaneMatch match,
+            @Parameter(description = "Filter by truck type") @RequestParam(required = false) String truckType,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) LoadStatus status,
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        
+        CursorPage<LoadDto> loads = loadService.searchLoads(from, to, match, truckType, status, cursor, size);
         return ResponseEntity.ok(loads);
     }
     
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export loads", 
+               description = "Streams every load matching the filters as newline-delimited JSON, newest first. " +
+                             "Rows are written as they are read, so exports of any size run in constant memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportLoads(
+            @Parameter(description = "Filter by shipper ID") @RequestParam(required = false) String shipperId,
+            @Parameter(description = "Filter by truck type") @RequestParam(required = false) String truckType,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) LoadStatus status,
+            @Parameter(description = "Loading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingFrom,
+            @Parameter(description = "Loading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime loadingTo,
+            @Parameter(description = "Unloading date from (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingFrom,
+            @Parameter(description = "Unloading date to (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime unloadingTo) {
+        
+        LoadFilter filter = new LoadFilter(shipperId, truckType, status, loadingFrom, loadingTo, unloadingFrom, unloadingTo);
+        // Rejected here, while the error can still be sent as a 400 rather than from the streaming thread
+        filter.validate();
+        return NdjsonResponses.<LoadDto>attachment(objectMapper, "loads.ndjson",
+            consumer -> loadService.exportLoads(filter, consumer));
+    }
+    
     @GetMapping("/{loadId}")
     @Operation(summary = "Get load by ID", description = "Retrieves a specific load by its ID")
     @ApiResponses(value = {
@@ -0,0 +1,72 @@
+package com.cargopro.controller;
+
+import com.cargopro.enums.SortableField;
+import com.cargopro.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Turns sortBy/sortDir into a Sort, accepting only the field lists an index serves; the id is always appended
+// as the tie-breaker, so rows that tie on every field still page in a stable order
+final class SortParameters {
+    
+    private SortParameters() {}
+    
+    static <F extends Enum<F> & SortableField> List<F> parseFields(String sortBy, Class<F> fieldType) {
+        Set<F> fields = EnumSet.noneOf(fieldType);
+        List<F> ordered = new ArrayList<>();
+        for (String name : sortBy.split(",")) {
+            F field = Arrays.stream(fieldType.getEnumConstants())
+                .filter(candidate -> candidate.getParameter().equals(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException("Cannot sort by '" + name.trim() + "'; sortable fields are " + 
+                    Arrays.stream(fieldType.getEnumConstants()).map(SortableField::getParameter)
+                        .collect(Collectors.joining(", "))));
+            if (!fields.add(field)) {
+                throw new BusinessException("Sort field '" + field.getParameter() + "' is given more than once");
+            }
+            ordered.add(field);
+        }
+        return ordered;
+    }
+    
+    // The indexes are scanned forwards or backwards as a whole, so every field, and the id, share one direction
+    static <F extends SortableField> Sort toSort(List<F> fields, String sortDir, List<List<F>> indexedSorts) {
+        String[] directions = sortDir.split(",");
+        if (directions.length != 1 && directions.length != fields.size()) {
+            throw new BusinessException("sortDir must give one direction, or one per sortBy field");
+        }
+        
+        Sort.Direction direction = parseDirection(directions[0]);
+        for (String other : directions) {
+            if (parseDirection(other) != direction) {
+                throw new BusinessException("No index serves mixed sort directions; give one direction for all fields");
+            }
+        }
+        if (!indexedSorts.contains(fields)) {
+            throw new BusinessException("No index serves sorting by " + join(fields) + "; supported sorts are " +
+                indexedSorts.stream().map(SortParameters::join).collect(Collectors.joining(", ")));
+        }
+        
+        List<Sort.Order> orders = new ArrayList<>(fields.size() + 1);
+        for (F field : fields) {
+            orders.add(new Sort.Order(direction, field.getProperty()));
+        }
+        orders.add(new Sort.Order(direction, "id"));
+        return Sort.by(orders);
+    }
+    
+    private static String join(List<? extends SortableField> fields) {
+        return fields.stream().map(SortableField::getParameter).collect(Collectors.joining(","));
+    }
+    
+    private static Sort.Direction parseDirection(String direction) {
+        return Sort.Direction.fromOptionalString(direction.trim())
+            .orElseThrow(() -> new BusinessException("Invalid sort direction '" + direction.trim() + "'; use asc or desc"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.BatchItemStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Outcome of a single item in a batch request")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    
+    @Schema(description = "Position of the item in the request array", example = "0")
+    private int index;
+    
+    @Schema(description = "Item outcome", example = "CREATED")
+    private BatchItemStatus status;
+    
+    @Schema(description = "ID of the created resource", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+    
+    @Schema(description = "Validation errors by field, present when the item was rejected")
+    private Map<String, String> errors;
+    
+    // Constructors
+    public BatchItemResult() {}
+    
+    public BatchItemResult(int index, BatchItemStatus status, UUID id, Map<String, String> errors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+    
+    public static BatchItemResult created(int index, UUID id) {
+        return new BatchItemResult(index, BatchItemStatus.CREATED, id, null);
+    }
+    
+    public static BatchItemResult rejected(int index, Map<String, String> errors) {
+        return new BatchItemResult(index, BatchItemStatus.REJECTED, null, errors);
+    }
+    
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    
+    public BatchItemStatus getStatus() { return status; }
+    public void setStatus(BatchItemStatus status) { this.status = status; }
+    
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    
+    public Map<String, String> getErrors() { return errors; }
+    public void setErrors(Map<String, String> errors) { this.errors = errors; }
+}
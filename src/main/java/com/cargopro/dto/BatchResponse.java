@@ -0,0 +1,45 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.BatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary and per-item outcomes of a batch request")
+public class BatchResponse {
+    
+    @Schema(description = "Number of items received", example = "3")
+    private int received;
+    
+    @Schema(description = "Number of items created", example = "2")
+    private int created;
+    
+    @Schema(description = "Number of items rejected", example = "1")
+    private int rejected;
+    
+    @Schema(description = "Per-item outcomes in request order")
+    private List<BatchItemResult> results;
+    
+    // Constructors
+    public BatchResponse() {}
+    
+    public BatchResponse(List<BatchItemResult> results) {
+        this.results = results;
+        this.received = results.size();
+        this.created = (int) results.stream().filter(r -> r.getStatus() == BatchItemStatus.CREATED).count();
+        this.rejected = received - created;
+    }
+    
+    // Getters and Setters
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+    
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    
+    public List<BatchItemResult> getResults() { return results; }
+    public void setResults(List<BatchItemResult> results) { this.results = results; }
+}
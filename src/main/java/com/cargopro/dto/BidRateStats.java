@@ -0,0 +1,42 @@
+package com.cargopro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Rate statistics over all of a load's bids with one status")
+public class BidRateStats {
+    
+    @Schema(description = "Number of bids", example = "12")
+    private long count;
+    
+    @Schema(description = "Lowest proposed rate, null when there are no bids", example = "18500.0")
+    private Double minRate;
+    
+    @Schema(description = "Average proposed rate, null when there are no bids", example = "22150.0")
+    private Double avgRate;
+    
+    @Schema(description = "Highest proposed rate, null when there are no bids", example = "27000.0")
+    private Double maxRate;
+    
+    // Constructors
+    public BidRateStats() {}
+    
+    public BidRateStats(long count, Double minRate, Double avgRate, Double maxRate) {
+        this.count = count;
+        this.minRate = minRate;
+        this.avgRate = avgRate;
+        this.maxRate = maxRate;
+    }
+    
+    // Getters and Setters
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+    
+    public Double getMinRate() { return minRate; }
+    public void setMinRate(Double minRate) { this.minRate = minRate; }
+    
+    public Double getAvgRate() { return avgRate; }
+    public void setAvgRate(Double avgRate) { this.avgRate = avgRate; }
+    
+    public Double getMaxRate() { return maxRate; }
+    public void setMaxRate(Double maxRate) { this.maxRate = maxRate; }
+}
@@ -0,0 +1,40 @@
+package com.cargopro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Number of bookings on a load by status")
+public class BookingCounts {
+    
+    @Schema(description = "Pending bookings", example = "3")
+    private int pending;
+    
+    @Schema(description = "Accepted bookings", example = "1")
+    private int accepted;
+    
+    @Schema(description = "Rejected bookings", example = "2")
+    private int rejected;
+    
+    // Constructors
+    public BookingCounts() {}
+    
+    public BookingCounts(int pending, int accepted, int rejected) {
+        this.pending = pending;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+    
+    // Getters and Setters
+    public int getPending() { return pending; }
+    public void setPending(int pending) { this.pending = pending; }
+    
+    public int getAccepted() { return accepted; }
+    public void setAccepted(int accepted) { this.accepted = accepted; }
+    
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    
+    @Schema(description = "All bookings", example = "6")
+    public int getTotal() {
+        return pending + accepted + rejected;
+    }
+}
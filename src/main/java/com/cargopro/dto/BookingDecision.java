@@ -0,0 +1,31 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.BookingStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Shipper's decision on a single booking")
+public class BookingDecision {
+    
+    @Schema(description = "Booking ID", example = "123e4567-e89b-12d3-a456-426614174001")
+    private UUID bookingId;
+    
+    @Schema(description = "New booking status, ACCEPTED or REJECTED", example = "ACCEPTED")
+    private BookingStatus status;
+    
+    // Constructors
+    public BookingDecision() {}
+    
+    public BookingDecision(UUID bookingId, BookingStatus status) {
+        this.bookingId = bookingId;
+        this.status = status;
+    }
+    
+    // Getters and Setters
+    public UUID getBookingId() { return bookingId; }
+    public void setBookingId(UUID bookingId) { this.bookingId = bookingId; }
+    
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+}
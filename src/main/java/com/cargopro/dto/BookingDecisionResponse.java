@@ -0,0 +1,52 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.DecisionOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Summary and per-item outcomes of a bulk booking decision request")
+public class BookingDecisionResponse {
+    
+    @Schema(description = "Number of decisions received", example = "12")
+    private int received;
+    
+    @Schema(description = "Number of decisions that changed a booking", example = "10")
+    private int applied;
+    
+    @Schema(description = "Number of decisions the booking already matched", example = "1")
+    private int unchanged;
+    
+    @Schema(description = "Number of decisions that failed", example = "1")
+    private int failed;
+    
+    @Schema(description = "Per-decision outcomes in request order")
+    private List<BookingDecisionResult> results;
+    
+    // Constructors
+    public BookingDecisionResponse() {}
+    
+    public BookingDecisionResponse(List<BookingDecisionResult> results) {
+        this.results = results;
+        this.received = results.size();
+        this.applied = (int) results.stream().filter(r -> r.getOutcome() == DecisionOutcome.APPLIED).count();
+        this.unchanged = (int) results.stream().filter(r -> r.getOutcome() == DecisionOutcome.UNCHANGED).count();
+        this.failed = received - applied - unchanged;
+    }
+    
+    // Getters and Setters
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+    
+    public int getApplied() { return applied; }
+    public void setApplied(int applied) { this.applied = applied; }
+    
+    public int getUnchanged() { return unchanged; }
+    public void setUnchanged(int unchanged) { this.unchanged = unchanged; }
+    
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    
+    public List<BookingDecisionResult> getResults() { return results; }
+    public void setResults(List<BookingDecisionResult> results) { this.results = results; }
+}
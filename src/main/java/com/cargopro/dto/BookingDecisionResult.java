@@ -0,0 +1,67 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.DecisionOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Outcome of a single booking decision")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingDecisionResult {
+    
+    @Schema(description = "Position of the decision in the request array", example = "0")
+    private int index;
+    
+    @Schema(description = "Booking ID", example = "123e4567-e89b-12d3-a456-426614174001")
+    private UUID bookingId;
+    
+    @Schema(description = "Decision outcome", example = "APPLIED")
+    private DecisionOutcome outcome;
+    
+    @Schema(description = "Booking status after the request, absent when the decision failed", example = "ACCEPTED")
+    private BookingStatus status;
+    
+    @Schema(description = "Why the decision failed, present when it did")
+    private String error;
+    
+    // Constructors
+    public BookingDecisionResult() {}
+    
+    public BookingDecisionResult(int index, UUID bookingId, DecisionOutcome outcome, BookingStatus status, String error) {
+        this.index = index;
+        this.bookingId = bookingId;
+        this.outcome = outcome;
+        this.status = status;
+        this.error = error;
+    }
+    
+    public static BookingDecisionResult applied(int index, UUID bookingId, BookingStatus status) {
+        return new BookingDecisionResult(index, bookingId, DecisionOutcome.APPLIED, status, null);
+    }
+    
+    public static BookingDecisionResult unchanged(int index, UUID bookingId, BookingStatus status) {
+        return new BookingDecisionResult(index, bookingId, DecisionOutcome.UNCHANGED, status, null);
+    }
+    
+    public static BookingDecisionResult failed(int index, UUID bookingId, String error) {
+        return new BookingDecisionResult(index, bookingId, DecisionOutcome.FAILED, null, error);
+    }
+    
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    
+    public UUID getBookingId() { return bookingId; }
+    public void setBookingId(UUID bookingId) { this.bookingId = bookingId; }
+    
+    public DecisionOutcome getOutcome() { return outcome; }
+    public void setOutcome(DecisionOutcome outcome) { this.outcome = outcome; }
+    
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+    
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,111 @@
+package com.cargopro.dto;
+
+import com.cargopro.entity.Booking;
+import com.cargopro.entity.Load;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Committed change to a load or booking, pushed to /events subscribers")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+    
+    @Schema(description = "What happened", example = "LOAD_CREATED")
+    private ChangeEventType type;
+    
+    @Schema(description = "Load ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID loadId;
+    
+    @Schema(description = "Booking ID, present on booking events", example = "123e4567-e89b-12d3-a456-426614174001")
+    private UUID bookingId;
+    
+    @Schema(description = "Shipper of the load", example = "SHIPPER001")
+    private String shipperId;
+    
+    @Schema(description = "Truck type of the load", example = "Container")
+    private String truckType;
+    
+    @Schema(description = "Transporter ID, present on booking events", example = "TRANS001")
+    private String transporterId;
+    
+    @Schema(description = "New load status on load events, booking status on booking events", example = "POSTED")
+    private String status;
+    
+    @Schema(description = "Number of bookings rejected, present on BOOKINGS_REJECTED", example = "3")
+    private Integer count;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    @Schema(description = "When the change was made", example = "2024-01-15T10:30:00.000Z")
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public ChangeEvent() {}
+    
+    public ChangeEvent(ChangeEventType type, UUID loadId, UUID bookingId, String shipperId, String truckType,
+                       String transporterId, String status, LocalDateTime occurredAt) {
+        this.type = type;
+        this.loadId = loadId;
+        this.bookingId = bookingId;
+        this.shipperId = shipperId;
+        this.truckType = truckType;
+        this.transporterId = transporterId;
+        this.status = status;
+        this.occurredAt = occurredAt;
+    }
+    
+    public static ChangeEvent forLoad(ChangeEventType type, Load load) {
+        return new ChangeEvent(type, load.getId(), null, load.getShipperId(), load.getTruckType(), null, 
+            load.getStatus().name(), LocalDateTime.now());
+    }
+    
+    public static ChangeEvent forLoad(ChangeEventType type, LoadDto load) {
+        return new ChangeEvent(type, load.getId(), null, load.getShipperId(), load.getTruckType(), null, 
+            load.getStatus().name(), LocalDateTime.now());
+    }
+    
+    public static ChangeEvent forBooking(ChangeEventType type, Booking booking, String shipperId, String truckType) {
+        return new ChangeEvent(type, booking.getLoad().getId(), booking.getId(), shipperId, truckType, 
+            booking.getTransporterId(), booking.getStatus().name(), LocalDateTime.now());
+    }
+    
+    // The other pending bookings of a load, rejected together when one of its bookings is accepted
+    public static ChangeEvent forRejectedBookings(Load load, int count) {
+        ChangeEvent event = new ChangeEvent(ChangeEventType.BOOKINGS_REJECTED, load.getId(), null, load.getShipperId(),
+            load.getTruckType(), null, BookingStatus.REJECTED.name(), LocalDateTime.now());
+        event.setCount(count);
+        return event;
+    }
+    
+    // Getters and Setters
+    public ChangeEventType getType() { return type; }
+    public void setType(ChangeEventType type) { this.type = type; }
+    
+    public UUID getLoadId() { return loadId; }
+    public void setLoadId(UUID loadId) { this.loadId = loadId; }
+    
+    public UUID getBookingId() { return bookingId; }
+    public void setBookingId(UUID bookingId) { this.bookingId = bookingId; }
+    
+    public String getShipperId() { return shipperId; }
+    public void setShipperId(String shipperId) { this.shipperId = shipperId; }
+    
+    public String getTruckType() { return truckType; }
+    public void setTruckType(String truckType) { this.truckType = truckType; }
+    
+    public String getTransporterId() { return transporterId; }
+    public void setTransporterId(String transporterId) { this.transporterId = transporterId; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,44 @@
+package com.cargopro.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Keyset-paginated result with an opaque continuation token")
+public class CursorPage<T> {
+    
+    @Schema(description = "Page content")
+    private List<T> content;
+    
+    @Schema(description = "Requested page size", example = "10")
+    private int size;
+    
+    @Schema(description = "Token to pass as 'cursor' to fetch the next page, null when there are no more results")
+    private String nextCursor;
+    
+    @Schema(description = "Whether more results are available")
+    private boolean hasNext;
+    
+    // Constructors
+    public CursorPage() {}
+    
+    public CursorPage(List<T> content, int size, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+    
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
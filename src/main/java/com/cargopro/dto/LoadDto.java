@@ -54,6 +54,9 @@ public class LoadDto {
     @Schema(description = "Load status", example = "POSTED")
     private LoadStatus status;
     
+    @Schema(description = "Bookings on this load by status", accessMode = Schema.AccessMode.READ_ONLY)
+    private BookingCounts bookingCounts;
+    
     // Constructors
     public LoadDto() {}
     
@@ -72,6 +75,17 @@ public class LoadDto {
         this.status = status;
     }
     
+    // Flat form used by the constructor-expression projection in LoadRepositoryCustomImpl
+    public LoadDto(UUID id, String shipperId, String loadingPoint, String unloadingPoint, 
+                   LocalDateTime loadingDate, LocalDateTime unloadingDate, String productType, 
+                   String truckType, Integer noOfTrucks, Double weight, String comment, 
+                   LocalDateTime datePosted, LoadStatus status, Integer pendingBookings, 
+                   Integer acceptedBookings, Integer rejectedBookings) {
+        this(id, shipperId, new FacilityDto(loadingPoint, unloadingPoint, loadingDate, unloadingDate), 
+             productType, truckType, noOfTrucks, weight, comment, datePosted, status);
+        this.bookingCounts = new BookingCounts(pendingBookings, acceptedBookings, rejectedBookings);
+    }
+    
     // Getters and Setters
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -102,4 +116,7 @@ public class LoadDto {
     
     public LoadStatus getStatus() { return status; }
     public void setStatus(LoadStatus status) { this.status = status; }
+    
+    public BookingCounts getBookingCounts() { return bookingCounts; }
+    public void setBookingCounts(BookingCounts bookingCounts) { this.bookingCounts = bookingCounts; }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.exception.BusinessException;
+
+import java.time.LocalDateTime;
+
+// Optional load list filters; null fields are not applied. Date windows include from and exclude to
+public class LoadFilter {
+    
+    private String shipperId;
+    private String truckType;
+    private LoadStatus status;
+    private LocalDateTime loadingFrom;
+    private LocalDateTime loadingTo;
+    private LocalDateTime unloadingFrom;
+    private LocalDateTime unloadingTo;
+    
+    // Constructors
+    public LoadFilter() {}
+    
+    public LoadFilter(String shipperId, String truckType, LoadStatus status) {
+        this.shipperId = shipperId;
+        this.truckType = truckType;
+        this.status = status;
+    }
+    
+    public LoadFilter(String shipperId, String truckType, LoadStatus status, 
+                      LocalDateTime loadingFrom, LocalDateTime loadingTo,
+                      LocalDateTime unloadingFrom, LocalDateTime unloadingTo) {
+        this(shipperId, truckType, status);
+        this.loadingFrom = loadingFrom;
+        this.loadingTo = loadingTo;
+        this.unloadingFrom = unloadingFrom;
+        this.unloadingTo = unloadingTo;
+    }
+    
+    public void validate() {
+        validateWindow("loading", loadingFrom, loadingTo);
+        validateWindow("unloading", unloadingFrom, unloadingTo);
+    }
+    
+    private static void validateWindow(String date, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException(date + "From must be before " + date + "To");
+        }
+    }
+    
+    // Getters and Setters
+    public String getShipperId() { return shipperId; }
+    public void setShipperId(String shipperId) { this.shipperId = shipperId; }
+    
+    public String getTruckType() { return truckType; }
+    public void setTruckType(String truckType) { this.truckType = truckType; }
+    
+    public LoadStatus getStatus() { return status; }
+    public void setStatus(LoadStatus status) { this.status = status; }
+    
+    public LocalDateTime getLoadingFrom() { return loadingFrom; }
+    public void setLoadingFrom(LocalDateTime loadingFrom) { this.loadingFrom = loadingFrom; }
+    
+    public LocalDateTime getLoadingTo() { return loadingTo; }
+    public void setLoadingTo(LocalDateTime loadingTo) { this.loadingTo = loadingTo; }
+    
+    public LocalDateTime getUnloadingFrom() { return unloadingFrom; }
+    public void setUnloadingFrom(LocalDateTime unloadingFrom) { this.unloadingFrom = unloadingFrom; }
+    
+    public LocalDateTime getUnloadingTo() { return unloadingTo; }
+    public void setUnloadingTo(LocalDateTime unloadingTo) { this.unloadingTo = unloadingTo; }
+}
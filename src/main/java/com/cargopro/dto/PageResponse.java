@@ -0,0 +1,187 @@
+package com.cargopro.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+@Schema(description = "Offset-paginated result; the total is exact, estimated or omitted depending on the count mode")
+public class PageResponse<T> {
+    
+    @Schema(description = "Page content")
+    private List<T> content;
+    
+    @Schema(description = "Page number (0-based)", example = "0")
+    private int number;
+    
+    @Schema(description = "Requested page size", example = "10")
+    private int size;
+    
+    @Schema(description = "Number of items on this page", example = "10")
+    private int numberOfElements;
+    
+    @Schema(description = "Whether this is the first page")
+    private boolean first;
+    
+    @Schema(description = "Whether this is the last page")
+    private boolean last;
+    
+    @Schema(description = "Total matching items, null when not counted", example = "125")
+    private Long totalElements;
+    
+    @Schema(description = "Total pages, null when not counted", example = "13")
+    private Integer totalPages;
+    
+    @Schema(description = "Whether totalElements and totalPages are estimates rather than exact counts")
+    private boolean totalEstimated;
+    
+    // empty, sort and pageable keep the fields of the Spring Data Page format these endpoints returned before
+    @Schema(description = "Whether this page has no content")
+    private boolean empty;
+    
+    @Schema(description = "Sort applied to the page")
+    private SortInfo sort;
+    
+    @Schema(description = "The requested page")
+    private PageableInfo pageable;
+    
+    // Constructors
+    public PageResponse() {}
+    
+    public PageResponse(Slice<T> slice, Long totalElements, boolean totalEstimated) {
+        this.content = slice.getContent();
+        this.number = slice.getNumber();
+        this.size = slice.getSize();
+        this.numberOfElements = content.size();
+        this.first = number == 0;
+        this.last = slice.isLast();
+        this.totalElements = totalElements;
+        this.totalPages = totalElements == null ? null
+            : size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+        this.totalEstimated = totalEstimated;
+        this.empty = content.isEmpty();
+        this.sort = new SortInfo(slice.getSort());
+        this.pageable = new PageableInfo(slice.getPageable());
+    }
+    
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page, page.getTotalElements(), false);
+    }
+    
+    public static <T> PageResponse<T> of(Slice<T> slice, Long totalElements, boolean totalEstimated) {
+        return new PageResponse<>(slice, totalElements, totalEstimated);
+    }
+    
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+    
+    public int getNumber() { return number; }
+    public void setNumber(int number) { this.number = number; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public int getNumberOfElements() { return numberOfElements; }
+    public void setNumberOfElements(int numberOfElements) { this.numberOfElements = numberOfElements; }
+    
+    public boolean isFirst() { return first; }
+    public void setFirst(boolean first) { this.first = first; }
+    
+    public boolean isLast() { return last; }
+    public void setLast(boolean last) { this.last = last; }
+    
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+    
+    public Integer getTotalPages() { return totalPages; }
+    public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
+    
+    public boolean isTotalEstimated() { return totalEstimated; }
+    public void setTotalEstimated(boolean totalEstimated) { this.totalEstimated = totalEstimated; }
+    
+    public boolean isEmpty() { return empty; }
+    public void setEmpty(boolean empty) { this.empty = empty; }
+    
+    public SortInfo getSort() { return sort; }
+    public void setSort(SortInfo sort) { this.sort = sort; }
+    
+    public PageableInfo getPageable() { return pageable; }
+    public void setPageable(PageableInfo pageable) { this.pageable = pageable; }
+    
+    @Schema(description = "Sort applied to a page")
+    public static class SortInfo {
+        
+        private boolean empty;
+        private boolean sorted;
+        private boolean unsorted;
+        
+        // Constructors
+        public SortInfo() {}
+        
+        public SortInfo(Sort sort) {
+            this.empty = sort.isEmpty();
+            this.sorted = sort.isSorted();
+            this.unsorted = sort.isUnsorted();
+        }
+        
+        // Getters and Setters
+        public boolean isEmpty() { return empty; }
+        public void setEmpty(boolean empty) { this.empty = empty; }
+        
+        public boolean isSorted() { return sorted; }
+        public void setSorted(boolean sorted) { this.sorted = sorted; }
+        
+        public boolean isUnsorted() { return unsorted; }
+        public void setUnsorted(boolean unsorted) { this.unsorted = unsorted; }
+    }
+    
+    @Schema(description = "Requested page; pageNumber, pageSize and offset are absent when unpaged")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PageableInfo {
+        
+        private Integer pageNumber;
+        private Integer pageSize;
+        private Long offset;
+        private SortInfo sort;
+        private boolean paged;
+        private boolean unpaged;
+        
+        // Constructors
+        public PageableInfo() {}
+        
+        public PageableInfo(Pageable pageable) {
+            if (pageable.isPaged()) {
+                this.pageNumber = pageable.getPageNumber();
+                this.pageSize = pageable.getPageSize();
+                this.offset = pageable.getOffset();
+            }
+            this.sort = new SortInfo(pageable.getSort());
+            this.paged = pageable.isPaged();
+            this.unpaged = pageable.isUnpaged();
+        }
+        
+        // Getters and Setters
+        public Integer getPageNumber() { return pageNumber; }
+        public void setPageNumber(Integer pageNumber) { this.pageNumber = pageNumber; }
+        
+        public Integer getPageSize() { return pageSize; }
+        public void setPageSize(Integer pageSize) { this.pageSize = pageSize; }
+        
+        public Long getOffset() { return offset; }
+        public void setOffset(Long offset) { this.offset = offset; }
+        
+        public SortInfo getSort() { return sort; }
+        public void setSort(SortInfo sort) { this.sort = sort; }
+        
+        public boolean isPaged() { return paged; }
+        public void setPaged(boolean paged) { this.paged = paged; }
+        
+        public boolean isUnpaged() { return unpaged; }
+        public void setUnpaged(boolean unpaged) { this.unpaged = unpaged; }
+    }
+}
@@ -0,0 +1,46 @@
+package com.cargopro.dto;
+
+import com.cargopro.enums.BookingStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "The lowest-rate bids on a load, with rate statistics over all its bids of that status")
+public class TopBids {
+    
+    @Schema(description = "Load ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID loadId;
+    
+    @Schema(description = "Status the bids were selected by", example = "PENDING")
+    private BookingStatus status;
+    
+    @Schema(description = "Up to k bids, lowest proposed rate first")
+    private List<BookingDto> bids;
+    
+    @Schema(description = "Statistics over every bid of this status, not only the ones returned")
+    private BidRateStats stats;
+    
+    // Constructors
+    public TopBids() {}
+    
+    public TopBids(UUID loadId, BookingStatus status, List<BookingDto> bids, BidRateStats stats) {
+        this.loadId = loadId;
+        this.status = status;
+        this.bids = bids;
+        this.stats = stats;
+    }
+    
+    // Getters and Setters
+    public UUID getLoadId() { return loadId; }
+    public void setLoadId(UUID loadId) { this.loadId = loadId; }
+    
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+    
+    public List<BookingDto> getBids() { return bids; }
+    public void setBids(List<BookingDto> bids) { this.bids = bids; }
+    
+    public BidRateStats getStats() { return stats; }
+    public void setStats(BidRateStats stats) { this.stats = stats; }
+}
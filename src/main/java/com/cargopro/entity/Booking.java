@@ -6,16 +6,20 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_bookings_load_transporter", columnNames = {"load_id", "transporter_id"})
+})
 public class Booking {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
     private UUID id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +47,10 @@ public class Booking {
     @Column(name = "requested_at", nullable = false, updatable = false)
     private LocalDateTime requestedAt;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // Constructors
     public Booking() {}
     
@@ -75,4 +83,7 @@ public class Booking {
     
     public LocalDateTime getRequestedAt() { return requestedAt; }
     public void setRequestedAt(LocalDateTime requestedAt) { this.requestedAt = requestedAt; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
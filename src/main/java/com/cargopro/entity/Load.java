@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,7 +18,8 @@ import java.util.UUID;
 public class Load {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
     private UUID id;
     
     @NotBlank(message = "Shipper ID is required")
@@ -56,6 +58,21 @@ public class Load {
     @Column(nullable = false)
     private LoadStatus status = LoadStatus.POSTED;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    // Booking totals by status, changed only by LoadRepository.adjustBookingCounts in the transaction that
+    // changes the bookings; never written through the entity, so edits of a load cannot overwrite them
+    @Column(name = "pending_bookings", nullable = false, insertable = false, updatable = false)
+    private int pendingBookings;
+    
+    @Column(name = "accepted_bookings", nullable = false, insertable = false, updatable = false)
+    private int acceptedBookings;
+    
+    @Column(name = "rejected_bookings", nullable = false, insertable = false, updatable = false)
+    private int rejectedBookings;
+    
     @OneToMany(mappedBy = "load", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Booking> bookings = new ArrayList<>();
     
@@ -107,4 +124,16 @@ public class Load {
     
     public List<Booking> getBookings() { return bookings; }
     public void setBookings(List<Booking> bookings) { this.bookings = bookings; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public int getPendingBookings() { return pendingBookings; }
+    public void setPendingBookings(int pendingBookings) { this.pendingBookings = pendingBookings; }
+    
+    public int getAcceptedBookings() { return acceptedBookings; }
+    public void setAcceptedBookings(int acceptedBookings) { this.acceptedBookings = acceptedBookings; }
+    
+    public int getRejectedBookings() { return rejectedBookings; }
+    public void setRejectedBookings(int rejectedBookings) { this.rejectedBookings = rejectedBookings; }
 }
\ No newline at end of file
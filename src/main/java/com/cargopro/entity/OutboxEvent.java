@@ -0,0 +1,89 @@
+package com.cargopro.entity;
+
+import com.cargopro.enums.ChangeEventType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 64)
+    private ChangeEventType eventType;
+    
+    // Partition key for consumers: every event concerns exactly one load
+    @Column(name = "load_id", nullable = false)
+    private UUID loadId;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    
+    // Not claimed again before this; null until the first failed attempt
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    
+    // Set when the row is parked after max-attempts failures; parked rows are never retried
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+    
+    // Constructors
+    public OutboxEvent() {}
+    
+    public OutboxEvent(ChangeEventType eventType, UUID loadId, String payload, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.loadId = loadId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public ChangeEventType getEventType() { return eventType; }
+    public void setEventType(ChangeEventType eventType) { this.eventType = eventType; }
+    
+    public UUID getLoadId() { return loadId; }
+    public void setLoadId(UUID loadId) { this.loadId = loadId; }
+    
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+    
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    
+    public LocalDateTime getFailedAt() { return failedAt; }
+    public void setFailedAt(LocalDateTime failedAt) { this.failedAt = failedAt; }
+}
@@ -0,0 +1,6 @@
+package com.cargopro.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    REJECTED
+}
@@ -0,0 +1,28 @@
+package com.cargopro.enums;
+
+import java.util.List;
+
+// Sort fields of GET /booking; each leads an index, so pages are read in index order instead of sorting every match
+public enum BookingSortField implements SortableField {
+    REQUESTED_AT("requestedAt", false),  // idx_bookings_*requested_at
+    PROPOSED_RATE("proposedRate", true); // idx_bookings_load_status_rate, so only within one load and status
+    
+    // The sortBy field lists an index serves; no index leads with both columns, so each is on its own
+    public static final List<List<BookingSortField>> INDEXED_SORTS = List.of(List.of(REQUESTED_AT), List.of(PROPOSED_RATE));
+    
+    private final String parameter;
+    private final boolean requiresLoadAndStatus;
+    
+    BookingSortField(String parameter, boolean requiresLoadAndStatus) {
+        this.parameter = parameter;
+        this.requiresLoadAndStatus = requiresLoadAndStatus;
+    }
+    
+    @Override
+    public String getParameter() { return parameter; }
+    
+    @Override
+    public String getProperty() { return parameter; }
+    
+    public boolean isRequiresLoadAndStatus() { return requiresLoadAndStatus; }
+}
@@ -0,0 +1,10 @@
+package com.cargopro.enums;
+
+public enum ChangeEventType {
+    LOAD_CREATED,
+    LOAD_STATUS_CHANGED,
+    BOOKING_CREATED,
+    BOOKING_UPDATED,
+    BOOKING_DELETED,
+    BOOKINGS_REJECTED
+}
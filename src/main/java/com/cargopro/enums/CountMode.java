@@ -0,0 +1,7 @@
+package com.cargopro.enums;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
@@ -0,0 +1,6 @@
+package com.cargopro.enums;
+
+public enum LaneMatch {
+    PREFIX,
+    FUZZY
+}
@@ -0,0 +1,28 @@
+package com.cargopro.enums;
+
+import java.util.List;
+
+// Sort fields of GET /load; each leads an index, so pages are read in index order instead of sorting every match
+public enum LoadSortField implements SortableField {
+    DATE_POSTED("datePosted", "datePosted"),                  // idx_loads_*date_posted
+    LOADING_DATE("loadingDate", "facility.loadingDate"),      // idx_loads_*loading_date
+    UNLOADING_DATE("unloadingDate", "facility.unloadingDate"); // idx_loads_*unloading_date
+    
+    // The sortBy field lists an index serves; no index leads with two of these columns, so each is on its own
+    public static final List<List<LoadSortField>> INDEXED_SORTS =
+        List.of(List.of(DATE_POSTED), List.of(LOADING_DATE), List.of(UNLOADING_DATE));
+    
+    private final String parameter;
+    private final String property;
+    
+    LoadSortField(String parameter, String property) {
+        this.parameter = parameter;
+        this.property = property;
+    }
+    
+    @Override
+    public String getParameter() { return parameter; }
+    
+    @Override
+    public String getProperty() { return property; }
+}
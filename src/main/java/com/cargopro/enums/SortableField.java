@@ -0,0 +1,9 @@
+package com.cargopro.enums;
+
+// A field list endpoints accept in sortBy, mapped to the entity property it orders by
+public interface SortableField {
+    
+    String getParameter();
+    
+    String getProperty();
+}
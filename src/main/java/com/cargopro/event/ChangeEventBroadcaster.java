@@ -0,0 +1,269 @@
+package com.cargopro.event;
+
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.exception.CapacityExceededException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans committed changes out to /events subscribers through per-subscriber queues and a small sender pool
+@Component
+public class ChangeEventBroadcaster {
+    
+    static final String RESYNC_EVENT = "RESYNC";
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter dropped;
+    private final Counter stalled;
+    private int stalledSends;
+    
+    @Autowired
+    public ChangeEventBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${cargopro.events.max-subscribers:50000}") int maxSubscribers,
+                                  @Value("${cargopro.events.queue-capacity:256}") int queueCapacity,
+                                  @Value("${cargopro.events.timeout:30m}") Duration timeout,
+                                  @Value("${cargopro.events.heartbeat-interval:20s}") Duration heartbeatInterval,
+                                  @Value("${cargopro.events.sender-threads:8}") int senderThreads,
+                                  @Value("${cargopro.events.send-timeout:10s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senderThreads = senderThreads;
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), daemonThreads("events-sender-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("events-heartbeat-"));
+        this.heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatInterval.toMillis(),
+            heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long stallCheckMillis = Math.max(1, sendTimeout.toMillis() / 2);
+        this.heartbeat.scheduleWithFixedDelay(this::dropStalledSubscribers, stallCheckMillis, stallCheckMillis,
+            TimeUnit.MILLISECONDS);
+        
+        Gauge.builder("cargopro.events.subscribers", subscribers, Set::size)
+            .description("Open /events connections")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("cargopro.events.dropped")
+            .description("Events not delivered because a subscriber's queue was full")
+            .register(meterRegistry);
+        this.stalled = Counter.builder("cargopro.events.stalled")
+            .description("Subscribers dropped because a send took longer than send-timeout")
+            .register(meterRegistry);
+    }
+    
+    public SseEmitter subscribe(ChangeEventFilter filter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CapacityExceededException("Too many event subscribers, retry later");
+        }
+        
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+    
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+    
+    // Published by the services inside their transaction; nothing is sent for rolled back work
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) throws JsonProcessingException {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        
+        Message message = new Message(event.getType().name(), objectMapper.writeValueAsString(event));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event)) {
+                subscriber.enqueue(message);
+            }
+        }
+    }
+    
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+    
+    private void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.dropIfStalled(now);
+        }
+    }
+    
+    // Keeps senderThreads threads free for healthy subscribers however many sends are stuck
+    private synchronized void adjustForStalledSends(int delta) {
+        stalledSends += delta;
+        int size = senderThreads + stalledSends;
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+    
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private record Message(String name, String json) {}
+    
+    private final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final ChangeEventFilter filter;
+        // Linked rather than array-backed so that idle subscribers do not allocate their full capacity
+        private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean heartbeatDue;
+        // Guarded by this: whether emitter.send is running, when it started, and whether it ran over
+        private boolean sending;
+        private long sendStartedNanos;
+        private boolean stalledOut;
+        
+        Subscriber(SseEmitter emitter, ChangeEventFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+        
+        void enqueue(Message message) {
+            if (!queue.offer(message)) {
+                overflowed = true;
+                dropped.increment();
+            }
+            schedule();
+        }
+        
+        // At most one drain per subscriber is queued or running, which keeps its events in order
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+        
+        private void drain() {
+            try {
+                Message message;
+                while ((message = queue.poll()) != null) {
+                    send(SseEmitter.event().name(message.name()).data(message.json(), MediaType.APPLICATION_JSON));
+                    heartbeatDue = false;
+                }
+                if (overflowed) {
+                    overflowed = false;
+                    send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+                }
+                if (heartbeatDue) {
+                    heartbeatDue = false;
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away, the emitter was already completed or the send was cut off as stalled
+                subscribers.remove(this);
+                queue.clear();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() || overflowed) {
+                schedule();
+            }
+        }
+        
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                if (stalledOut) {
+                    throw new IllegalStateException("Subscriber was dropped as stalled");
+                }
+                sending = true;
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                boolean wasStalled;
+                synchronized (this) {
+                    sending = false;
+                    wasStalled = stalledOut;
+                }
+                if (wasStalled) {
+                    // Completing needs the emitter's lock, which the stuck write held until now
+                    adjustForStalledSends(-1);
+                    emitter.completeWithError(new IOException("Send took longer than the send timeout"));
+                }
+            }
+        }
+        
+        void dropIfStalled(long now) {
+            synchronized (this) {
+                if (!sending || stalledOut || now - sendStartedNanos < sendTimeoutNanos) {
+                    return;
+                }
+                stalledOut = true;
+            }
+            subscribers.remove(this);
+            queue.clear();
+            stalled.increment();
+            adjustForStalledSends(1);
+        }
+    }
+}
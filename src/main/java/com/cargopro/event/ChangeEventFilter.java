@@ -0,0 +1,23 @@
+package com.cargopro.event;
+
+import com.cargopro.dto.ChangeEvent;
+
+// Subscription filter for /events; a null field matches anything
+public class ChangeEventFilter {
+    
+    private final String shipperId;
+    private final String truckType;
+    private final String status;
+    
+    public ChangeEventFilter(String shipperId, String truckType, String status) {
+        this.shipperId = shipperId;
+        this.truckType = truckType;
+        this.status = status;
+    }
+    
+    public boolean matches(ChangeEvent event) {
+        return (shipperId == null || shipperId.equals(event.getShipperId()))
+            && (truckType == null || truckType.equals(event.getTruckType()))
+            && (status == null || status.equals(event.getStatus()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.cargopro.exception;
+
+public class CapacityExceededException extends RuntimeException {
+    
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.cargopro.idempotency;
+
+// A claimed key's request fingerprint and, once finished, its response status, content type and body
+public class IdempotencyRecord {
+    
+    private final String fingerprint;
+    private final Integer status;
+    private final String contentType;
+    private final byte[] body;
+    
+    // Constructors
+    public IdempotencyRecord(String fingerprint, Integer status, String contentType, byte[] body) {
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+    
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null, null, null);
+    }
+    
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(fingerprint, status, contentType, body);
+    }
+    
+    public boolean isCompleted() {
+        return status != null;
+    }
+    
+    // Getters
+    public String getFingerprint() { return fingerprint; }
+    
+    public Integer getStatus() { return status; }
+    
+    public String getContentType() { return contentType; }
+    
+    public byte[] getBody() { return body; }
+}
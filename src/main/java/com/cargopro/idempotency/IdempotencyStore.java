@@ -0,0 +1,17 @@
+package com.cargopro.idempotency;
+
+import java.util.Optional;
+
+// Recent idempotency keys and their responses; in memory per instance unless a bean of this type replaces it
+public interface IdempotencyStore {
+    
+    // Atomically records the key as in progress for this request. Returns empty when the caller now owns
+    // the key, otherwise whatever is already stored under it
+    Optional<IdempotencyRecord> claim(String key, String fingerprint);
+    
+    // Stores the response of the request that claimed the key
+    void complete(String key, IdempotencyRecord record);
+    
+    // Forgets a key whose request did not produce a response worth replaying, so a retry runs again
+    void release(String key);
+}
@@ -0,0 +1,35 @@
+package com.cargopro.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Default store: a bounded Caffeine cache on this instance, so a retry routed to another instance runs again
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    
+    private final Cache<String, IdempotencyRecord> records;
+    
+    public InMemoryIdempotencyStore(long maximumSize, Duration ttl) {
+        this.records = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+    
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        return Optional.ofNullable(records.asMap().putIfAbsent(key, IdempotencyRecord.inProgress(fingerprint)));
+    }
+    
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+    
+    @Override
+    public void release(String key) {
+        records.invalidate(key);
+    }
+}
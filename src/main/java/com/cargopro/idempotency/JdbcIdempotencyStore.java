@@ -0,0 +1,87 @@
+package com.cargopro.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Idempotency keys in the idempotency_keys table, shared by all instances; the primary key decides concurrent claims
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    
+    private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration inProgressTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+    }
+    
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at) VALUES (?, ?, ?)",
+                key, fingerprint, Timestamp.valueOf(LocalDateTime.now()));
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            // The row can be purged between the insert and this read; the key is then free again
+            return find(key).or(() -> claim(key, fingerprint));
+        }
+    }
+    
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        int updated = jdbcTemplate.update("UPDATE idempotency_keys SET status_code = ?, content_type = ?, body = ? " +
+            "WHERE idempotency_key = ?", record.getStatus(), record.getContentType(), record.getBody(), key);
+        if (updated > 0) {
+            return;
+        }
+        
+        // The key ran past in-progress-timeout and was purged
+        log.warn("Idempotency key {} was purged before its request completed; raise in-progress-timeout above {}", 
+            key, inProgressTimeout);
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, fingerprint, status_code, content_type, " +
+                    "body, created_at) VALUES (?, ?, ?, ?, ?, ?)", key, record.getFingerprint(), record.getStatus(), 
+                record.getContentType(), record.getBody(), Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // A retry claimed the key between the update and this insert; its own response will be stored
+            log.warn("Idempotency key {} was claimed again before its first request completed", key);
+        }
+    }
+    
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status_code IS NULL", key);
+    }
+    
+    @Scheduled(fixedDelayString = "${cargopro.idempotency.purge-interval-ms:60000}")
+    public void scheduledPurge() {
+        purgeExpired();
+    }
+    
+    // Returns the number of keys removed
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ? " +
+            "OR (status_code IS NULL AND created_at < ?)",
+            Timestamp.valueOf(now.minus(ttl)), Timestamp.valueOf(now.minus(inProgressTimeout)));
+    }
+    
+    private Optional<IdempotencyRecord> find(String key) {
+        return jdbcTemplate.query("SELECT fingerprint, status_code, content_type, body FROM idempotency_keys " +
+                "WHERE idempotency_key = ?",
+            (rs, rowNum) -> new IdempotencyRecord(rs.getString("fingerprint"), rs.getObject("status_code", Integer.class),
+                rs.getString("content_type"), rs.getBytes("body")),
+            key).stream().findFirst();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cargopro.mapper;
 
+import com.cargopro.dto.BookingCounts;
 import com.cargopro.dto.FacilityDto;
 import com.cargopro.dto.LoadDto;
 import com.cargopro.entity.Facility;
@@ -24,7 +25,7 @@ public class LoadMapper {
             );
         }
         
-        return new LoadDto(
+        LoadDto loadDto = new LoadDto(
             load.getId(),
             load.getShipperId(),
             facilityDto,
@@ -36,6 +37,9 @@ public class LoadMapper {
             load.getDatePosted(),
             load.getStatus()
         );
+        loadDto.setBookingCounts(new BookingCounts(load.getPendingBookings(), load.getAcceptedBookings(), 
+            load.getRejectedBookings()));
+        return loadDto;
     }
     
     public Load toEntity(LoadDto loadDto) {
@@ -0,0 +1,63 @@
+package com.cargopro.metrics;
+
+import com.cargopro.exception.BusinessException;
+import com.cargopro.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+// Times public service methods as cargopro.service, outside retry, caching and transactions
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Around("execution(public * com.cargopro.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = outcomeOf(t);
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(Timer.builder("cargopro.service")
+                .description("Service method execution time")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+    
+    private static String outcomeOf(Throwable t) {
+        if (t instanceof ResourceNotFoundException) {
+            return "NOT_FOUND";
+        }
+        if (t instanceof BusinessException) {
+            return "REJECTED";
+        }
+        if (t instanceof ConcurrencyFailureException) {
+            return "CONFLICT";
+        }
+        return "ERROR";
+    }
+}
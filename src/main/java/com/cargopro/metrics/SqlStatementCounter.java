@@ -0,0 +1,32 @@
+package com.cargopro.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts SQL statements Hibernate prepares on the current thread between start() and stop()
+public class SqlStatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+    
+    public static void start() {
+        CURRENT.set(new Count());
+    }
+    
+    public static long stop() {
+        Count count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count.value;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+    
+    private static final class Count {
+        private long value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cargopro.outbox;
+
+import com.cargopro.entity.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+// Default sink until a real integration is configured
+public class LoggingOutboxSink implements OutboxSink {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxSink.class);
+    
+    @Override
+    public void send(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.debug("Outbox event {} {} for load {}: {}", event.getId(), event.getEventType(), 
+                event.getLoadId(), event.getPayload());
+        }
+    }
+}
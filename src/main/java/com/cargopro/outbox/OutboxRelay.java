@@ -0,0 +1,165 @@
+package com.cargopro.outbox;
+
+import com.cargopro.entity.OutboxEvent;
+import com.cargopro.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sends the outbox to the OutboxSink in batches, at least once; rejected events back off and are parked at max-attempts
+@Component
+public class OutboxRelay {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean enabled;
+    private final boolean cleanupEnabled;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter published;
+    private final Counter failures;
+    private final Counter parked;
+    
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, ObjectProvider<OutboxSink> outboxSink,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${cargopro.outbox.batch-size:100}") int batchSize,
+                       @Value("${cargopro.outbox.relay-enabled:true}") boolean enabled,
+                       @Value("${cargopro.outbox.cleanup-enabled:true}") boolean cleanupEnabled,
+                       @Value("${cargopro.outbox.retention:7d}") Duration retention,
+                       @Value("${cargopro.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${cargopro.outbox.initial-backoff:1s}") Duration initialBackoff,
+                       @Value("${cargopro.outbox.max-backoff:10m}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        // Integrations plug in by declaring an OutboxSink bean; until then events are only logged
+        this.outboxSink = outboxSink.getIfAvailable(LoggingOutboxSink::new);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+        this.cleanupEnabled = cleanupEnabled;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.published = Counter.builder("cargopro.outbox.published")
+            .description("Outbox events delivered to the sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("cargopro.outbox.failures")
+            .description("Outbox batches the sink failed to accept")
+            .register(meterRegistry);
+        this.parked = Counter.builder("cargopro.outbox.parked")
+            .description("Outbox events given up on after max-attempts failed sends")
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${cargopro.outbox.poll-interval-ms:1000}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relayPending();
+        }
+    }
+    
+    // Gated separately so that instances which leave relaying to others still trim the table
+    @Scheduled(fixedDelayString = "${cargopro.outbox.cleanup-interval-ms:3600000}")
+    public void scheduledCleanup() {
+        if (cleanupEnabled) {
+            transactionTemplate.execute(status -> 
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        }
+    }
+    
+    // Sends batches until no due events are left or the sink fails; returns the number of events delivered
+    public int relayPending() {
+        int delivered = 0;
+        BatchResult result;
+        do {
+            result = transactionTemplate.execute(status -> relayBatch());
+            delivered += result.delivered();
+        } while (result.claimed() == batchSize && !result.failed());
+        return delivered;
+    }
+    
+    private BatchResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockPending(now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0, false);
+        }
+        
+        try {
+            outboxSink.send(batch);
+            markPublished(batch, now);
+            return new BatchResult(batch.size(), batch.size(), false);
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("Outbox sink rejected {} events starting at id {}, will retry: {}", 
+                batch.size(), batch.get(0).getId(), e.toString());
+            if (batch.size() == 1) {
+                recordFailure(batch.get(0), e, now);
+                return new BatchResult(1, 0, true);
+            }
+        }
+        
+        // Find the events the sink rejects, so that only they back off
+        List<OutboxEvent> delivered = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            try {
+                outboxSink.send(List.of(event));
+                delivered.add(event);
+            } catch (Exception e) {
+                recordFailure(event, e, now);
+            }
+        }
+        markPublished(delivered, now);
+        return new BatchResult(batch.size(), delivered.size(), true);
+    }
+    
+    private void markPublished(List<OutboxEvent> events, LocalDateTime now) {
+        for (OutboxEvent event : events) {
+            event.setPublishedAt(now);
+        }
+        published.increment(events.size());
+    }
+    
+    private void recordFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        String error = e.toString().length() > MAX_ERROR_LENGTH ? e.toString().substring(0, MAX_ERROR_LENGTH) : e.toString();
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(error);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setFailedAt(now);
+            parked.increment();
+            log.error("Outbox event {} parked after {} failed attempts: {}", event.getId(), event.getAttempts(), error);
+        } else {
+            event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+        }
+    }
+    
+    // initial-backoff doubled for every attempt after the first, capped at max-backoff
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+    
+    private record BatchResult(int claimed, int delivered, boolean failed) {}
+}
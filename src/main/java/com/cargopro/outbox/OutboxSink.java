@@ -0,0 +1,11 @@
+package com.cargopro.outbox;
+
+import com.cargopro.entity.OutboxEvent;
+
+import java.util.List;
+
+// Destination of relayed events, at least once: send must throw on failure and consumers de-duplicate on the event id
+public interface OutboxSink {
+    
+    void send(List<OutboxEvent> events) throws Exception;
+}
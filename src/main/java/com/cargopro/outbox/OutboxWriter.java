@@ -0,0 +1,32 @@
+package com.cargopro.outbox;
+
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.entity.OutboxEvent;
+import com.cargopro.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Records every change event in the outbox table as part of the transaction that made the change
+@Component
+public class OutboxWriter {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Autowired
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+    
+    // Still inside the transaction: the rows are flushed with the commit, or not at all
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onChange(ChangeEvent event) throws JsonProcessingException {
+        outboxEventRepository.save(new OutboxEvent(event.getType(), event.getLoadId(), 
+            objectMapper.writeValueAsString(event), event.getOccurredAt()));
+    }
+}
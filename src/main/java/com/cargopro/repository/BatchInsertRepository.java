@@ -0,0 +1,10 @@
+package com.cargopro.repository;
+
+import java.util.List;
+
+// Bulk inserts that flush in JDBC-batch-sized chunks and keep the persistence context small
+public interface BatchInsertRepository<T> {
+    
+    // Persists new entities only; each chunk is detached once flushed, other managed entities are left alone
+    List<T> insertAll(List<T> entities);
+}
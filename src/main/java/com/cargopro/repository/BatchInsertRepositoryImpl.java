@@ -0,0 +1,40 @@
+package com.cargopro.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+    
+    private final EntityManager entityManager;
+    private final int batchSize;
+    
+    @Autowired
+    public BatchInsertRepositoryImpl(EntityManager entityManager,
+                                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public List<T> insertAll(List<T> entities) {
+        int chunkStart = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndDetach(entities.subList(chunkStart, i + 1));
+                chunkStart = i + 1;
+            }
+        }
+        flushAndDetach(entities.subList(chunkStart, entities.size()));
+        return entities;
+    }
+    
+    // Detaches only this chunk; entities the caller already manages in the same transaction stay attached
+    private void flushAndDetach(List<T> chunk) {
+        entityManager.flush();
+        chunk.forEach(entityManager::detach);
+    }
+}
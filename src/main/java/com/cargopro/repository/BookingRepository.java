@@ -1,30 +1,75 @@
 package com.cargopro.repository;
 
+import com.cargopro.dto.BidRateStats;
+import com.cargopro.dto.BookingDto;
 import com.cargopro.entity.Booking;
 import com.cargopro.enums.BookingStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, JpaSpecificationExecutor<Booking>,
+        BookingRepositoryCustom {
     
-    @Query("SELECT b FROM Booking b WHERE " +
-           "(:loadId IS NULL OR b.load.id = :loadId) AND " +
-           "(:transporterId IS NULL OR b.transporterId = :transporterId) AND " +
-           "(:status IS NULL OR b.status = :status)")
-    Page<Booking> findBookingsWithFilters(@Param("loadId") UUID loadId,
-                                         @Param("transporterId") String transporterId,
-                                         @Param("status") BookingStatus status,
-                                         Pageable pageable);
+    default Page<BookingDto> findBookingDtosWithFilters(UUID loadId, String transporterId, BookingStatus status,
+                                                        Pageable pageable) {
+        return findDtos(BookingSpecifications.withFilters(loadId, transporterId, status), pageable);
+    }
     
-    List<Booking> findByLoadId(UUID loadId);
+    // Offset page without the count query
+    default Slice<BookingDto> findBookingDtoSliceWithFilters(UUID loadId, String transporterId, BookingStatus status,
+                                                             Pageable pageable) {
+        return findDtoSlice(BookingSpecifications.withFilters(loadId, transporterId, status), pageable.getSort(), pageable);
+    }
+    
+    default long countBookingsWithFilters(UUID loadId, String transporterId, BookingStatus status) {
+        return count(BookingSpecifications.withFilters(loadId, transporterId, status));
+    }
+    
+    // Keyset pagination: first page of a (requestedAt DESC, id DESC) scan, no count query
+    default Slice<BookingDto> findFirstBookingDtosByCursor(UUID loadId, String transporterId, BookingStatus status,
+                                                           Pageable pageable) {
+        return findDtoSlice(BookingSpecifications.withFilters(loadId, transporterId, status),
+            BookingSpecifications.KEYSET_SORT, pageable);
+    }
+    
+    // Keyset pagination: seeks past the (requestedAt, id) of the last row of the previous page
+    default Slice<BookingDto> findBookingDtosAfterCursor(UUID loadId, String transporterId, BookingStatus status,
+                                                         LocalDateTime requestedAt, UUID id, Pageable pageable) {
+        return findDtoSlice(BookingSpecifications.withFilters(loadId, transporterId, status)
+            .and(BookingSpecifications.requestedBefore(requestedAt, id)), BookingSpecifications.KEYSET_SORT, pageable);
+    }
+    
+    // Export: every matching row in keyset order, read through a forward-only cursor
+    default Stream<BookingDto> streamBookingDtosWithFilters(UUID loadId, String transporterId, BookingStatus status) {
+        return streamDtos(BookingSpecifications.withFilters(loadId, transporterId, status),
+            BookingSpecifications.KEYSET_SORT);
+    }
+    
+    // The k lowest-rate bids of one status on a load: the first k entries of idx_bookings_load_status_rate
+    default List<BookingDto> findTopBidDtos(UUID loadId, BookingStatus status, int k) {
+        return findDtoSlice(BookingSpecifications.withFilters(loadId, null, status), BookingSpecifications.RATE_SORT,
+            PageRequest.of(0, k)).getContent();
+    }
+    
+    // Aggregates over the same index range, so no table rows are read
+    @Query("SELECT new com.cargopro.dto.BidRateStats(COUNT(b), MIN(b.proposedRate), AVG(b.proposedRate), " +
+           "MAX(b.proposedRate)) FROM Booking b WHERE b.load.id = :loadId AND b.status = :status")
+    BidRateStats findBidRateStats(@Param("loadId") UUID loadId, @Param("status") BookingStatus status);
     
     List<Booking> findByLoadIdAndStatus(UUID loadId, BookingStatus status);
     
@@ -32,5 +77,14 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     
     Page<Booking> findByStatus(BookingStatus status, Pageable pageable);
     
-    boolean existsByLoadIdAndTransporterId(UUID loadId, String transporterId);
-}
\ No newline at end of file
+    // Bookings together with their loads in a single query
+    @Query("SELECT b FROM Booking b JOIN FETCH b.load WHERE b.id IN :ids")
+    List<Booking> findAllWithLoadByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    // Rejects every other PENDING bid on the load in one statement; returns the number of bids rejected
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = com.cargopro.enums.BookingStatus.REJECTED, b.version = b.version + 1 " +
+           "WHERE b.load.id = :loadId AND b.id <> :acceptedBookingId " +
+           "AND b.status = com.cargopro.enums.BookingStatus.PENDING")
+    int rejectOtherPendingBookings(@Param("loadId") UUID loadId, @Param("acceptedBookingId") UUID acceptedBookingId);
+}
@@ -0,0 +1,30 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.entity.Booking;
+import com.cargopro.enums.BookingStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Read-only queries that project bookings straight into BookingDto
+public interface BookingRepositoryCustom {
+    
+    Page<BookingDto> findDtos(Specification<Booking> spec, Pageable pageable);
+    
+    Slice<BookingDto> findDtoSlice(Specification<Booking> spec, Sort sort, Pageable pageable);
+    
+    Optional<BookingDto> findDtoById(UUID bookingId);
+    
+    Stream<BookingDto> streamDtos(Specification<Booking> spec, Sort sort);
+    
+    // Planner estimate of the bookings matching the filters; empty where the database offers none
+    OptionalLong estimateCount(UUID loadId, String transporterId, BookingStatus status);
+}
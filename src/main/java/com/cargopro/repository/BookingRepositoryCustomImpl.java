@@ -0,0 +1,68 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.entity.Booking;
+import com.cargopro.enums.BookingStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    private final ProjectionQueries<Booking, BookingDto> projections;
+    
+    @Autowired
+    public BookingRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        // load.id resolves to the load_id column, so no join to loads and no proxy is involved
+        this.projections = new ProjectionQueries<>(entityManager, Booking.class, BookingDto.class,
+            (root, cb) -> cb.construct(BookingDto.class,
+                root.get("id"),
+                root.get("load").get("id"),
+                root.get("transporterId"),
+                root.get("proposedRate"),
+                root.get("comment"),
+                root.get("status"),
+                root.get("requestedAt")
+            ));
+    }
+    
+    @Override
+    public Page<BookingDto> findDtos(Specification<Booking> spec, Pageable pageable) {
+        return projections.page(spec, pageable);
+    }
+    
+    @Override
+    public Slice<BookingDto> findDtoSlice(Specification<Booking> spec, Sort sort, Pageable pageable) {
+        return projections.slice(spec, sort, pageable);
+    }
+    
+    @Override
+    public Optional<BookingDto> findDtoById(UUID bookingId) {
+        return projections.list(BookingSpecifications.hasId(bookingId)).stream().findFirst();
+    }
+    
+    @Override
+    public Stream<BookingDto> streamDtos(Specification<Booking> spec, Sort sort) {
+        return projections.stream(spec, sort);
+    }
+    
+    @Override
+    public OptionalLong estimateCount(UUID loadId, String transporterId, BookingStatus status) {
+        return new RowEstimates(entityManager, "bookings")
+            .where("load_id", "=", loadId)
+            .where("transporter_id", "=", transporterId)
+            .where("status", "=", status == null ? null : status.name())
+            .estimate();
+    }
+}
@@ -0,0 +1,63 @@
+package com.cargopro.repository;
+
+import com.cargopro.entity.Booking;
+import com.cargopro.enums.BookingStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// WHERE clauses for booking queries built from the supplied filters only, values always bound as parameters
+public final class BookingSpecifications {
+    
+    // Order used by keyset pagination; matches idx_bookings_*_requested_at
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "requestedAt", "id");
+    
+    // Lowest rate first; matches idx_bookings_load_status_rate
+    public static final Sort RATE_SORT = Sort.by(Sort.Direction.ASC, "proposedRate", "id");
+    
+    private BookingSpecifications() {}
+    
+    public static Specification<Booking> withFilters(UUID loadId, String transporterId, BookingStatus status) {
+        Specification<Booking> spec = Specification.where(null);
+        if (loadId != null) {
+            spec = spec.and(hasLoadId(loadId));
+        }
+        if (transporterId != null) {
+            spec = spec.and(hasTransporterId(transporterId));
+        }
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        return spec;
+    }
+    
+    public static Specification<Booking> hasId(UUID bookingId) {
+        return (root, query, cb) -> cb.equal(root.get("id"), bookingId);
+    }
+    
+    // Compares the load_id foreign key column directly, no join to loads
+    public static Specification<Booking> hasLoadId(UUID loadId) {
+        return (root, query, cb) -> cb.equal(root.get("load").get("id"), loadId);
+    }
+    
+    public static Specification<Booking> hasTransporterId(String transporterId) {
+        return (root, query, cb) -> cb.equal(root.get("transporterId"), transporterId);
+    }
+    
+    public static Specification<Booking> hasStatus(BookingStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+    
+    // Rows strictly after (requestedAt, id) in KEYSET_SORT order
+    public static Specification<Booking> requestedBefore(LocalDateTime requestedAt, UUID id) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("requestedAt"), requestedAt),
+            cb.and(
+                cb.equal(root.get("requestedAt"), requestedAt),
+                cb.lessThan(root.get("id"), id)
+            )
+        );
+    }
+}
@@ -1,31 +1,103 @@
 package com.cargopro.repository;
 
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
 import com.cargopro.entity.Load;
+import com.cargopro.enums.LaneMatch;
 import com.cargopro.enums.LoadStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface LoadRepository extends JpaRepository<Load, UUID> {
+public interface LoadRepository extends JpaRepository<Load, UUID>, JpaSpecificationExecutor<Load>,
+        LoadRepositoryCustom, BatchInsertRepository<Load> {
     
-    @Query("SELECT l FROM Load l WHERE " +
-           "(:shipperId IS NULL OR l.shipperId = :shipperId) AND " +
-           "(:truckType IS NULL OR l.truckType = :truckType) AND " +
-           "(:status IS NULL OR l.status = :status)")
-    Page<Load> findLoadsWithFilters(@Param("shipperId") String shipperId,
-                                   @Param("truckType") String truckType,
-                                   @Param("status") LoadStatus status,
-                                   Pageable pageable);
+    default Page<LoadDto> findLoadDtosWithFilters(LoadFilter filter, Pageable pageable) {
+        return findDtos(LoadSpecifications.withFilters(filter), pageable);
+    }
+    
+    // Offset page without the count query
+    default Slice<LoadDto> findLoadDtoSliceWithFilters(LoadFilter filter, Pageable pageable) {
+        return findDtoSlice(LoadSpecifications.withFilters(filter), pageable.getSort(), pageable);
+    }
+    
+    default long countLoadsWithFilters(LoadFilter filter) {
+        return count(LoadSpecifications.withFilters(filter));
+    }
+    
+    // Keyset pagination: first page of a (datePosted DESC, id DESC) scan, no count query
+    default Slice<LoadDto> findFirstLoadDtosByCursor(LoadFilter filter, Pageable pageable) {
+        return findDtoSlice(LoadSpecifications.withFilters(filter),
+            LoadSpecifications.KEYSET_SORT, pageable);
+    }
+    
+    // Keyset pagination: seeks past the (datePosted, id) of the last row of the previous page
+    default Slice<LoadDto> findLoadDtosAfterCursor(LoadFilter filter, LocalDateTime datePosted, UUID id,
+                                                   Pageable pageable) {
+        return findDtoSlice(LoadSpecifications.withFilters(filter)
+            .and(LoadSpecifications.postedBefore(datePosted, id)), LoadSpecifications.KEYSET_SORT, pageable);
+    }
+    
+    // Lane search in keyset order; datePosted and id are those of the previous page's last row, or null
+    default Slice<LoadDto> searchLoadDtos(String from, String to, LaneMatch match, String truckType, LoadStatus status,
+                                          LocalDateTime datePosted, UUID id, Pageable pageable) {
+        Specification<Load> spec = LoadSpecifications.onLane(from, to, match)
+            .and(LoadSpecifications.withFilters(null, truckType, status));
+        if (datePosted != null) {
+            spec = spec.and(LoadSpecifications.postedBefore(datePosted, id));
+        }
+        return findDtoSlice(spec, LoadSpecifications.KEYSET_SORT, pageable);
+    }
+    
+    // Export: every matching row in keyset order, read through a forward-only cursor
+    default Stream<LoadDto> streamLoadDtosWithFilters(LoadFilter filter) {
+        return streamDtos(LoadSpecifications.withFilters(filter), LoadSpecifications.KEYSET_SORT);
+    }
+    
+    // Compare-and-set on status; returns 0 when the load is no longer in the expected status
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Load l SET l.status = :status, l.version = l.version + 1 " +
+           "WHERE l.id = :loadId AND l.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("loadId") UUID loadId, @Param("expectedStatus") LoadStatus expectedStatus,
+                              @Param("status") LoadStatus status);
+    
+    // Signed changes to the booking totals in one statement. The version is not bumped: the totals follow the
+    // bookings, and must not make concurrent edits of the load itself fail
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Load l SET l.pendingBookings = l.pendingBookings + :pending, " +
+           "l.acceptedBookings = l.acceptedBookings + :accepted, l.rejectedBookings = l.rejectedBookings + :rejected " +
+           "WHERE l.id = :loadId")
+    int adjustBookingCounts(@Param("loadId") UUID loadId, @Param("pending") int pending,
+                            @Param("accepted") int accepted, @Param("rejected") int rejected);
+    
+    // Counts a new pending booking unless the load is cancelled; returns 0 when it is cancelled or missing. The
+    // row stays locked until the caller commits, so a concurrent cancel or delete cannot pass in between
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Load l SET l.pendingBookings = l.pendingBookings + 1 " +
+           "WHERE l.id = :loadId AND l.status <> com.cargopro.enums.LoadStatus.CANCELLED")
+    int addPendingBookingUnlessCancelled(@Param("loadId") UUID loadId);
+    
+    @Query("SELECT new com.cargopro.dto.BookingCounts(l.pendingBookings, l.acceptedBookings, l.rejectedBookings) " +
+           "FROM Load l WHERE l.id = :loadId")
+    Optional<BookingCounts> findBookingCounts(@Param("loadId") UUID loadId);
     
     Page<Load> findByShipperId(String shipperId, Pageable pageable);
     
     Page<Load> findByTruckType(String truckType, Pageable pageable);
     
     Page<Load> findByStatus(LoadStatus status, Pageable pageable);
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.entity.Load;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Read-only queries that project loads straight into LoadDto
+public interface LoadRepositoryCustom {
+    
+    Page<LoadDto> findDtos(Specification<Load> spec, Pageable pageable);
+    
+    Slice<LoadDto> findDtoSlice(Specification<Load> spec, Sort sort, Pageable pageable);
+    
+    Optional<LoadDto> findDtoById(UUID loadId);
+    
+    Stream<LoadDto> streamDtos(Specification<Load> spec, Sort sort);
+    
+    // Planner estimate of the loads matching the filter; empty where the database offers none
+    OptionalLong estimateCount(LoadFilter filter);
+}
@@ -0,0 +1,83 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.entity.Load;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Path;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class LoadRepositoryCustomImpl implements LoadRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    private final ProjectionQueries<Load, LoadDto> projections;
+    
+    @Autowired
+    public LoadRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        // Facility columns are passed flat: Hibernate 6.3 cannot paginate nested constructor expressions
+        this.projections = new ProjectionQueries<>(entityManager, Load.class, LoadDto.class,
+            (root, cb) -> {
+                Path<Object> facility = root.get("facility");
+                return cb.construct(LoadDto.class,
+                    root.get("id"),
+                    root.get("shipperId"),
+                    facility.get("loadingPoint"),
+                    facility.get("unloadingPoint"),
+                    facility.get("loadingDate"),
+                    facility.get("unloadingDate"),
+                    root.get("productType"),
+                    root.get("truckType"),
+                    root.get("noOfTrucks"),
+                    root.get("weight"),
+                    root.get("comment"),
+                    root.get("datePosted"),
+                    root.get("status"),
+                    root.get("pendingBookings"),
+                    root.get("acceptedBookings"),
+                    root.get("rejectedBookings")
+                );
+            });
+    }
+    
+    @Override
+    public Page<LoadDto> findDtos(Specification<Load> spec, Pageable pageable) {
+        return projections.page(spec, pageable);
+    }
+    
+    @Override
+    public Slice<LoadDto> findDtoSlice(Specification<Load> spec, Sort sort, Pageable pageable) {
+        return projections.slice(spec, sort, pageable);
+    }
+    
+    @Override
+    public Optional<LoadDto> findDtoById(UUID loadId) {
+        return projections.list(LoadSpecifications.hasId(loadId)).stream().findFirst();
+    }
+    
+    @Override
+    public Stream<LoadDto> streamDtos(Specification<Load> spec, Sort sort) {
+        return projections.stream(spec, sort);
+    }
+    
+    @Override
+    public OptionalLong estimateCount(LoadFilter filter) {
+        RowEstimates estimates = new RowEstimates(entityManager, "loads");
+        for (LoadSpecifications.FilterCondition condition : LoadSpecifications.conditions(filter)) {
+            // Enums are stored by name
+            Object value = condition.value() instanceof Enum<?> constant ? constant.name() : condition.value();
+            estimates.where(condition.column(), condition.comparison().operator, value);
+        }
+        return estimates.estimate();
+    }
+}
@@ -0,0 +1,148 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.entity.Load;
+import com.cargopro.enums.LaneMatch;
+import com.cargopro.enums.LoadStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// WHERE clauses for load queries built from the supplied filters only, values always bound as parameters
+public final class LoadSpecifications {
+    
+    // Order used by keyset pagination; matches idx_loads_*_date_posted
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "datePosted", "id");
+    
+    private LoadSpecifications() {}
+    
+    public static Specification<Load> withFilters(LoadFilter filter) {
+        Specification<Load> spec = Specification.where(null);
+        for (FilterCondition condition : conditions(filter)) {
+            if (condition.value() != null) {
+                spec = spec.and(condition.toSpecification());
+            }
+        }
+        return spec;
+    }
+    
+    // Every LoadFilter field as a condition; the row estimate for GET /load is built from the same list
+    static List<FilterCondition> conditions(LoadFilter filter) {
+        // Date windows are served by idx_loads_*_loading_date / idx_loads_*_unloading_date
+        return List.of(
+            new FilterCondition("shipperId", "shipper_id", Comparison.EQUAL, filter.getShipperId()),
+            new FilterCondition("truckType", "truck_type", Comparison.EQUAL, filter.getTruckType()),
+            new FilterCondition("status", "status", Comparison.EQUAL, filter.getStatus()),
+            new FilterCondition("facility.loadingDate", "loading_date", Comparison.AT_LEAST, filter.getLoadingFrom()),
+            new FilterCondition("facility.loadingDate", "loading_date", Comparison.BEFORE, filter.getLoadingTo()),
+            new FilterCondition("facility.unloadingDate", "unloading_date", Comparison.AT_LEAST, filter.getUnloadingFrom()),
+            new FilterCondition("facility.unloadingDate", "unloading_date", Comparison.BEFORE, filter.getUnloadingTo())
+        );
+    }
+    
+    public static Specification<Load> withFilters(String shipperId, String truckType, LoadStatus status) {
+        Specification<Load> spec = Specification.where(null);
+        if (shipperId != null) {
+            spec = spec.and(hasShipperId(shipperId));
+        }
+        if (truckType != null) {
+            spec = spec.and(hasTruckType(truckType));
+        }
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        return spec;
+    }
+    
+    // Loads whose loading point matches from and unloading point matches to; either may be null
+    public static Specification<Load> onLane(String from, String to, LaneMatch match) {
+        Specification<Load> spec = Specification.where(null);
+        if (from != null) {
+            spec = spec.and(pointMatches("loadingPoint", from, match));
+        }
+        if (to != null) {
+            spec = spec.and(pointMatches("unloadingPoint", to, match));
+        }
+        return spec;
+    }
+    
+    // Compares lower(point), the expression idx_loads_*_point_prefix and idx_loads_*_point_trgm are built on
+    private static Specification<Load> pointMatches(String point, String term, LaneMatch match) {
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> {
+            Expression<String> value = cb.lower(root.get("facility").get(point));
+            if (match == LaneMatch.FUZZY) {
+                return cb.isTrue(cb.function(TrigramFunctionContributor.TRIGRAM_MATCH, Boolean.class, 
+                    value, cb.literal(normalized)));
+            }
+            return cb.like(value, escapeLike(normalized) + "%", '\\');
+        };
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+    
+    public static Specification<Load> hasId(UUID loadId) {
+        return (root, query, cb) -> cb.equal(root.get("id"), loadId);
+    }
+    
+    public static Specification<Load> hasShipperId(String shipperId) {
+        return (root, query, cb) -> cb.equal(root.get("shipperId"), shipperId);
+    }
+    
+    public static Specification<Load> hasTruckType(String truckType) {
+        return (root, query, cb) -> cb.equal(root.get("truckType"), truckType);
+    }
+    
+    public static Specification<Load> hasStatus(LoadStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+    
+    enum Comparison {
+        EQUAL("="), AT_LEAST(">="), BEFORE("<");
+        
+        final String operator;
+        
+        Comparison(String operator) {
+            this.operator = operator;
+        }
+    }
+    
+    // A filter value compared against a Load attribute (dotted for embedded ones) and its loads column
+    record FilterCondition(String attribute, String column, Comparison comparison, Object value) {
+        
+        @SuppressWarnings("unchecked")
+        Specification<Load> toSpecification() {
+            return (root, query, cb) -> {
+                Path<?> path = root;
+                for (String part : attribute.split("\\.")) {
+                    path = path.get(part);
+                }
+                Path<Comparable<Object>> comparable = (Path<Comparable<Object>>) path;
+                return switch (comparison) {
+                    case EQUAL -> cb.equal(path, value);
+                    case AT_LEAST -> cb.greaterThanOrEqualTo(comparable, (Comparable<Object>) value);
+                    case BEFORE -> cb.lessThan(comparable, (Comparable<Object>) value);
+                };
+            };
+        }
+    }
+    
+    // Rows strictly after (datePosted, id) in KEYSET_SORT order
+    public static Specification<Load> postedBefore(LocalDateTime datePosted, UUID id) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("datePosted"), datePosted),
+            cb.and(
+                cb.equal(root.get("datePosted"), datePosted),
+                cb.lessThan(root.get("id"), id)
+            )
+        );
+    }
+}
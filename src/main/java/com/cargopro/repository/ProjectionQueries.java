@@ -0,0 +1,103 @@
+package com.cargopro.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+// Specification queries that select straight into DTOs, so read paths never hydrate or dirty-check entities
+final class ProjectionQueries<E, D> {
+    
+    // Rows pulled per round-trip when streaming; bounds memory regardless of result size
+    private static final int STREAM_FETCH_SIZE = 1000;
+    
+    private final EntityManager entityManager;
+    private final Class<E> entityClass;
+    private final Class<D> dtoClass;
+    private final BiFunction<Root<E>, CriteriaBuilder, Selection<D>> selection;
+    
+    ProjectionQueries(EntityManager entityManager, Class<E> entityClass, Class<D> dtoClass,
+                      BiFunction<Root<E>, CriteriaBuilder, Selection<D>> selection) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.dtoClass = dtoClass;
+        this.selection = selection;
+    }
+    
+    Page<D> page(Specification<E> spec, Pageable pageable) {
+        TypedQuery<D> query = createQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        // Skips the count query when the total can be derived from the page itself
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+    
+    // Reads one row past the page size to tell whether a next page exists, no count query
+    Slice<D> slice(Specification<E> spec, Sort sort, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<D> rows = createQuery(spec, sort)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(size + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+    
+    List<D> list(Specification<E> spec) {
+        return createQuery(spec, Sort.unsorted()).getResultList();
+    }
+    
+    // Forward-only cursor over the result; must be consumed and closed inside a transaction
+    Stream<D> stream(Specification<E> spec, Sort sort) {
+        return createQuery(spec, sort)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+            .getResultStream();
+    }
+    
+    long count(Specification<E> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entityClass);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    private TypedQuery<D> createQuery(Specification<E> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<D> query = cb.createQuery(dtoClass);
+        Root<E> root = query.from(entityClass);
+        query.select(selection.apply(root, cb));
+        applySpecification(spec, root, query, cb);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+    
+    private void applySpecification(Specification<E> spec, Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.cargopro.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+// Row count estimate from the PostgreSQL planner in one EXPLAIN round-trip; empty on other databases
+final class RowEstimates {
+    
+    private static final ObjectMapper PLAN_READER = new ObjectMapper();
+    
+    private final EntityManager entityManager;
+    private final String table;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    
+    RowEstimates(EntityManager entityManager, String table) {
+        this.entityManager = entityManager;
+        this.table = table;
+    }
+    
+    // Adds "column operator ?" when value is not null; column and operator are fixed by the caller, the value is bound
+    RowEstimates where(String column, String operator, Object value) {
+        if (value != null) {
+            conditions.add(column + " " + operator + " ?");
+            values.add(value);
+        }
+        return this;
+    }
+    
+    OptionalLong estimate() {
+        if (!(entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect)) {
+            return OptionalLong.empty();
+        }
+        
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table
+            + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? planRows(resultSet.getString(1)) : OptionalLong.empty();
+                }
+            }
+        });
+    }
+    
+    // The top node's "Plan Rows" is the planner's estimate for the whole statement
+    private static OptionalLong planRows(String plan) {
+        try {
+            JsonNode rows = PLAN_READER.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? OptionalLong.of(Math.round(rows.asDouble())) : OptionalLong.empty();
+        } catch (JsonProcessingException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cargopro.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+// trigram_match(value, term): pg_trgm's % operator on PostgreSQL, similarity() >= 0.3 elsewhere
+public class TrigramFunctionContributor implements FunctionContributor {
+    
+    public static final String TRIGRAM_MATCH = "trigram_match";
+    
+    private static final String DEFAULT_THRESHOLD = "0.3";
+    
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+            ? "(?1 % ?2)"
+            : "(similarity(?1, ?2) >= " + DEFAULT_THRESHOLD + ")";
+        functionContributions.getFunctionRegistry().registerPattern(TRIGRAM_MATCH, pattern,
+            functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -0,0 +1,41 @@
+package com.cargopro.repository;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// pg_trgm's similarity() for H2, so fuzzy lane search behaves alike on both databases
+public final class TrigramSimilarity {
+    
+    private TrigramSimilarity() {}
+    
+    public static double similarity(String left, String right) {
+        if (left == null || right == null) {
+            return 0;
+        }
+        
+        Set<String> leftTrigrams = trigrams(left);
+        Set<String> rightTrigrams = trigrams(right);
+        if (leftTrigrams.isEmpty() || rightTrigrams.isEmpty()) {
+            return 0;
+        }
+        
+        Set<String> shared = new HashSet<>(leftTrigrams);
+        shared.retainAll(rightTrigrams);
+        return (double) shared.size() / (leftTrigrams.size() + rightTrigrams.size() - shared.size());
+    }
+    
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,106 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.TopBids;
+import com.cargopro.enums.BookingStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Optional per-instance bid leaderboards, kept current with this instance's commits and expired to bound what others' go unseen
+@Component
+public class BidBoards {
+    
+    private final boolean enabled;
+    private final Cache<UUID, LoadBids> boards;
+    
+    @Autowired
+    public BidBoards(@Value("${cargopro.bids.boards.enabled:false}") boolean enabled,
+                     @Value("${cargopro.bids.boards.maximum-size:10000}") long maximumSize,
+                     @Value("${cargopro.bids.boards.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.boards = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<UUID, LoadBids>() {
+                @Override
+                public long expireAfterCreate(UUID loadId, LoadBids board, long currentTime) {
+                    return expireAfterWrite.toNanos();
+                }
+                
+                @Override
+                public long expireAfterUpdate(UUID loadId, LoadBids board, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+                
+                @Override
+                public long expireAfterRead(UUID loadId, LoadBids board, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    // Answers from the load's board, building it from every bid on the load on a miss
+    public TopBids top(UUID loadId, BookingStatus status, int k, Supplier<List<BookingDto>> allBids) {
+        LoadBids board = boards.get(loadId, id -> new LoadBids(allBids.get()));
+        return new TopBids(loadId, status, board.top(status, k), board.stats(status));
+    }
+    
+    public void putAfterCommit(BookingDto booking) {
+        updateAfterCommit(booking.getLoadId(), board -> board.put(booking));
+    }
+    
+    public void removeAfterCommit(UUID loadId, UUID bookingId) {
+        updateAfterCommit(loadId, board -> board.remove(bookingId));
+    }
+    
+    public void invalidateAfterCommit(UUID loadId) {
+        if (enabled) {
+            afterCommit(() -> boards.invalidate(loadId));
+        }
+    }
+    
+    // Only boards that already exist are updated; a missing one is read in full when next asked for. A board
+    // still being built may have read the bids before this change committed, so the change waits for the
+    // build to finish and is then applied to it. compute waits for it where computeIfPresent and getIfPresent
+    // would see no board yet
+    private void updateAfterCommit(UUID loadId, Consumer<LoadBids> change) {
+        if (enabled) {
+            afterCommit(() -> boards.asMap().compute(loadId, (id, board) -> {
+                if (board != null) {
+                    change.accept(board);
+                }
+                return board;
+            }));
+        }
+    }
+    
+    // Applying a change before commit would show bids that a rollback then removes
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,78 +1,193 @@
 package com.cargopro.service;
 
+import com.cargopro.config.RetryOnConflict;
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDecisionResponse;
+import com.cargopro.dto.BookingDecisionResult;
 import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.KeysetCursor;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.dto.TopBids;
 import com.cargopro.entity.Booking;
 import com.cargopro.entity.Load;
 import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.cargopro.enums.CountMode;
 import com.cargopro.enums.LoadStatus;
 import com.cargopro.exception.BusinessException;
 import com.cargopro.exception.ResourceNotFoundException;
 import com.cargopro.mapper.BookingMapper;
 import com.cargopro.repository.BookingRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BookingService {
     
+    static final int MAX_DECISIONS = 1000;
+    static final int MAX_TOP_BIDS = 100;
+    
+    private static final String DUPLICATE_BOOKING_CONSTRAINT = "uq_bookings_load_transporter";
+    private static final String LOAD_FOREIGN_KEY = "fk_bookings_load";
+    
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final LoadService loadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidBoards bidBoards;
     
     @Autowired
-    public BookingService(BookingRepository bookingRepository, BookingMapper bookingMapper, LoadService loadService) {
+    public BookingService(BookingRepository bookingRepository, BookingMapper bookingMapper, LoadService loadService,
+                          ApplicationEventPublisher eventPublisher, BidBoards bidBoards) {
         this.bookingRepository = bookingRepository;
         this.bookingMapper = bookingMapper;
         this.loadService = loadService;
+        this.eventPublisher = eventPublisher;
+        this.bidBoards = bidBoards;
     }
     
+    @RetryOnConflict
     public BookingDto createBooking(BookingDto bookingDto) {
-        Load load = loadService.getLoadEntityById(bookingDto.getLoadId());
+        UUID loadId = bookingDto.getLoadId();
         
-        // Business rule: Cannot book a cancelled load
-        if (load.getStatus() == LoadStatus.CANCELLED) {
+        // Business rule: Cannot book a cancelled load. Checked on the load row, which stays locked until this
+        // booking commits, rather than on the cached load; the same statement counts the new pending booking
+        if (!loadService.addPendingBooking(loadId)) {
             throw new BusinessException("Cannot create booking for a cancelled load");
         }
         
-        // Check if transporter already has a booking for this load
-        if (bookingRepository.existsByLoadIdAndTransporterId(bookingDto.getLoadId(), bookingDto.getTransporterId())) {
-            throw new BusinessException("Transporter already has a booking for this load");
-        }
-        
         Booking booking = bookingMapper.toEntity(bookingDto);
-        booking.setLoad(load);
+        booking.setId(null); // Ids are always generated
+        booking.setLoad(loadService.getLoadReference(loadId));
         booking.setStatus(BookingStatus.PENDING);
         
-        Booking savedBooking = bookingRepository.save(booking);
+        // One booking per transporter and load is enforced by uq_bookings_load_transporter, not by a
+        // prior lookup that concurrent bids could both pass
+        Booking savedBooking;
+        try {
+            savedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, DUPLICATE_BOOKING_CONSTRAINT)) {
+                throw new BusinessException("Transporter already has a booking for this load", e);
+            }
+            if (violates(e, LOAD_FOREIGN_KEY)) {
+                throw new ResourceNotFoundException("Load not found with id: " + loadId);
+            }
+            throw e;
+        }
         
         // Update load status to BOOKED when first booking is created
-        if (load.getStatus() == LoadStatus.POSTED) {
-            loadService.updateLoadStatus(load.getId(), LoadStatus.BOOKED);
-        }
+        loadService.updateLoadStatusIfCurrent(loadId, LoadStatus.POSTED, LoadStatus.BOOKED);
         
-        return bookingMapper.toDto(savedBooking);
+        publishBookingEvent(ChangeEventType.BOOKING_CREATED, savedBooking);
+        BookingDto createdBooking = bookingMapper.toDto(savedBooking);
+        bidBoards.putAfterCommit(createdBooking);
+        return createdBooking;
     }
     
     @Transactional(readOnly = true)
     public Page<BookingDto> getBookings(UUID loadId, String transporterId, BookingStatus status, Pageable pageable) {
-        Page<Booking> bookings = bookingRepository.findBookingsWithFilters(loadId, transporterId, status, pageable);
-        return bookings.map(bookingMapper::toDto);
+        return bookingRepository.findBookingDtosWithFilters(loadId, transporterId, status, pageable);
+    }
+    
+    // ESTIMATED and NONE skip the count(*) over the filtered set; see PageCounts
+    @Transactional(readOnly = true)
+    public PageResponse<BookingDto> getBookings(UUID loadId, String transporterId, BookingStatus status,
+                                                Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return PageResponse.of(getBookings(loadId, transporterId, status, pageable));
+        }
+        Slice<BookingDto> bookings = bookingRepository.findBookingDtoSliceWithFilters(loadId, transporterId, status,
+            pageable);
+        return PageCounts.withTotal(bookings, countMode,
+            () -> bookingRepository.estimateCount(loadId, transporterId, status),
+            () -> bookingRepository.countBookingsWithFilters(loadId, transporterId, status));
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getBookingsByCursor(UUID loadId, String transporterId, BookingStatus status,
+                                                      String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<BookingDto> bookings;
+        if (cursor == null || cursor.isBlank()) {
+            bookings = bookingRepository.findFirstBookingDtosByCursor(loadId, transporterId, status, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            bookings = bookingRepository.findBookingDtosAfterCursor(loadId, transporterId, status,
+                position.getTimestamp(), position.getId(), pageable);
+        }
+        
+        List<BookingDto> content = bookings.getContent();
+        String nextCursor = null;
+        if (bookings.hasNext()) {
+            BookingDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getRequestedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, size, nextCursor, bookings.hasNext());
+    }
+    
+    // Hands rows to the consumer as they are read; the cursor stays open for the whole export
+    @Transactional(readOnly = true)
+    public void exportBookings(UUID loadId, String transporterId, BookingStatus status, Consumer<BookingDto> consumer) {
+        try (Stream<BookingDto> bookings = bookingRepository.streamBookingDtosWithFilters(loadId, transporterId, status)) {
+            bookings.forEach(consumer);
+        }
+    }
+    
+    // Lowest-rate bids of one status with statistics over all of them, from the load's in-memory board when
+    // cargopro.bids.boards.enabled is set, otherwise from idx_bookings_load_status_rate
+    @Transactional(readOnly = true)
+    public TopBids getTopBids(UUID loadId, BookingStatus status, int k) {
+        if (k < 1 || k > MAX_TOP_BIDS) {
+            throw new BusinessException("k must be between 1 and " + MAX_TOP_BIDS);
+        }
+        loadService.requireLoad(loadId);
+        
+        if (bidBoards.isEnabled()) {
+            return bidBoards.top(loadId, status, k, () -> {
+                try (Stream<BookingDto> bookings = bookingRepository.streamBookingDtosWithFilters(loadId, null, null)) {
+                    return bookings.toList();
+                }
+            });
+        }
+        return new TopBids(loadId, status, bookingRepository.findTopBidDtos(loadId, status, k),
+            bookingRepository.findBidRateStats(loadId, status));
     }
     
     @Transactional(readOnly = true)
     public BookingDto getBookingById(UUID bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        return bookingRepository.findDtoById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
-        return bookingMapper.toDto(booking);
     }
     
+    @RetryOnConflict
     public BookingDto updateBooking(UUID bookingId, BookingDto bookingDto) {
         Booking existingBooking = bookingRepository.findById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
@@ -85,51 +200,182 @@ public class BookingService {
         // Handle status transitions
         handleBookingStatusChange(updatedBooking, oldStatus);
         
-        return bookingMapper.toDto(updatedBooking);
+        publishBookingEvent(ChangeEventType.BOOKING_UPDATED, updatedBooking);
+        BookingDto result = bookingMapper.toDto(updatedBooking);
+        bidBoards.putAfterCommit(result);
+        return result;
     }
     
+    @RetryOnConflict
     public void deleteBooking(UUID bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
         
         UUID loadId = booking.getLoad().getId();
         bookingRepository.delete(booking);
+        publishBookingEvent(ChangeEventType.BOOKING_DELETED, booking);
+        bidBoards.removeAfterCommit(loadId, bookingId);
+        loadService.adjustBookingCounts(loadId, Map.of(booking.getStatus(), -1));
         
         // Check if this was the last booking for the load
-        List<Booking> remainingBookings = bookingRepository.findByLoadId(loadId);
-        if (remainingBookings.isEmpty()) {
+        BookingCounts counts = loadService.getBookingCounts(loadId);
+        if (counts.getTotal() == 0) {
             loadService.updateLoadStatus(loadId, LoadStatus.CANCELLED);
+        } else if (allRejected(counts)) {
+            // All remaining bookings are rejected
+            loadService.updateLoadStatus(loadId, LoadStatus.POSTED);
+        }
+    }
+    
+    // Applies every decision in one transaction. Bookings and their loads are read in one query, and each load's
+    // follow-up (rejecting its other pending bids, or reverting it to POSTED) runs once per load, not per decision
+    @RetryOnConflict
+    public BookingDecisionResponse decideBookings(List<BookingDecision> decisions) {
+        if (decisions.size() > MAX_DECISIONS) {
+            throw new BusinessException("Request contains " + decisions.size() + 
+                " decisions; the maximum is " + MAX_DECISIONS);
+        }
+        
+        Set<UUID> bookingIds = decisions.stream()
+            .filter(decision -> decision != null && decision.getBookingId() != null)
+            .map(BookingDecision::getBookingId)
+            .collect(Collectors.toSet());
+        Map<UUID, Booking> bookings = bookingIds.isEmpty() ? Map.of() : bookingRepository.findAllWithLoadByIdIn(bookingIds)
+            .stream()
+            .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        
+        List<BookingDecisionResult> results = new ArrayList<>(decisions.size());
+        Set<UUID> decided = new HashSet<>();
+        Set<UUID> acceptingLoads = new HashSet<>();
+        Map<UUID, List<Booking>> changedByLoad = new LinkedHashMap<>();
+        Map<UUID, Map<BookingStatus, Integer>> countChangesByLoad = new HashMap<>();
+        for (int i = 0; i < decisions.size(); i++) {
+            BookingDecision decision = decisions.get(i);
+            String error = checkDecision(decision, bookings, decided, acceptingLoads);
+            if (error != null) {
+                results.add(BookingDecisionResult.failed(i, decision == null ? null : decision.getBookingId(), error));
+                continue;
+            }
+            
+            Booking booking = bookings.get(decision.getBookingId());
+            if (booking.getStatus() == decision.getStatus()) {
+                results.add(BookingDecisionResult.unchanged(i, booking.getId(), booking.getStatus()));
+                continue;
+            }
+            UUID loadId = booking.getLoad().getId();
+            moveCount(countChangesByLoad.computeIfAbsent(loadId, id -> new EnumMap<>(BookingStatus.class)),
+                booking.getStatus(), decision.getStatus(), 1);
+            booking.setStatus(decision.getStatus());
+            changedByLoad.computeIfAbsent(loadId, id -> new ArrayList<>()).add(booking);
+            results.add(BookingDecisionResult.applied(i, booking.getId(), booking.getStatus()));
+        }
+        
+        changedByLoad.forEach((loadId, changed) -> 
+            handleBookingStatusChanges(loadId, changed, countChangesByLoad.get(loadId)));
+        return new BookingDecisionResponse(results);
+    }
+    
+    private String checkDecision(BookingDecision decision, Map<UUID, Booking> bookings, Set<UUID> decided,
+                                 Set<UUID> acceptingLoads) {
+        if (decision == null || decision.getBookingId() == null) {
+            return "Booking ID is required";
+        }
+        if (decision.getStatus() != BookingStatus.ACCEPTED && decision.getStatus() != BookingStatus.REJECTED) {
+            return "Status must be ACCEPTED or REJECTED";
+        }
+        
+        Booking booking = bookings.get(decision.getBookingId());
+        if (booking == null) {
+            return "Booking not found with id: " + decision.getBookingId();
+        }
+        if (!decided.add(booking.getId())) {
+            return "Booking already has a decision earlier in this request";
+        }
+        if (decision.getStatus() == BookingStatus.ACCEPTED && !acceptingLoads.add(booking.getLoad().getId())) {
+            return "Another booking for this load is accepted earlier in this request";
+        }
+        return null;
+    }
+    
+    // Same rules as handleBookingStatusChange, applied once for all of a load's changed bookings
+    private void handleBookingStatusChanges(UUID loadId, List<Booking> changed,
+                                            Map<BookingStatus, Integer> countChanges) {
+        Optional<Booking> accepted = changed.stream()
+            .filter(booking -> booking.getStatus() == BookingStatus.ACCEPTED)
+            .findFirst();
+        if (accepted.isPresent()) {
+            int rejected = rejectOtherPendingBookings(accepted.get());
+            moveCount(countChanges, BookingStatus.PENDING, BookingStatus.REJECTED, rejected);
+            loadService.adjustBookingCounts(loadId, countChanges);
+            bidBoards.invalidateAfterCommit(loadId);
         } else {
-            // Check if all remaining bookings are rejected
-            boolean allRejected = remainingBookings.stream()
-                .allMatch(b -> b.getStatus() == BookingStatus.REJECTED);
-            if (allRejected) {
+            loadService.adjustBookingCounts(loadId, countChanges);
+            if (allRejected(loadService.getBookingCounts(loadId))) {
                 loadService.updateLoadStatus(loadId, LoadStatus.POSTED);
             }
         }
+        
+        changed.forEach(booking -> {
+            publishBookingEvent(ChangeEventType.BOOKING_UPDATED, booking);
+            if (bidBoards.isEnabled()) {
+                bidBoards.putAfterCommit(bookingMapper.toDto(booking));
+            }
+        });
     }
     
     private void handleBookingStatusChange(Booking booking, BookingStatus oldStatus) {
+        UUID loadId = booking.getLoad().getId();
+        Map<BookingStatus, Integer> countChanges = new EnumMap<>(BookingStatus.class);
+        moveCount(countChanges, oldStatus, booking.getStatus(), 1);
+        
         if (booking.getStatus() == BookingStatus.ACCEPTED && oldStatus != BookingStatus.ACCEPTED) {
-            // When a booking is accepted, reject all other bookings for the same load
-            List<Booking> otherBookings = bookingRepository.findByLoadId(booking.getLoad().getId());
-            for (Booking otherBooking : otherBookings) {
-                if (!otherBooking.getId().equals(booking.getId()) && 
-                    otherBooking.getStatus() == BookingStatus.PENDING) {
-                    otherBooking.setStatus(BookingStatus.REJECTED);
-                    bookingRepository.save(otherBooking);
-                }
-            }
+            // When a booking is accepted, reject all other pending bookings for the same load
+            int rejected = rejectOtherPendingBookings(booking);
+            moveCount(countChanges, BookingStatus.PENDING, BookingStatus.REJECTED, rejected);
+            bidBoards.invalidateAfterCommit(loadId);
         }
+        loadService.adjustBookingCounts(loadId, countChanges);
         
         // Check if all bookings are rejected, then revert load status to POSTED
-        if (booking.getStatus() == BookingStatus.REJECTED) {
-            List<Booking> allBookings = bookingRepository.findByLoadId(booking.getLoad().getId());
-            boolean allRejected = allBookings.stream()
-                .allMatch(b -> b.getStatus() == BookingStatus.REJECTED);
-            if (allRejected) {
-                loadService.updateLoadStatus(booking.getLoad().getId(), LoadStatus.POSTED);
-            }
+        if (booking.getStatus() == BookingStatus.REJECTED && allRejected(loadService.getBookingCounts(loadId))) {
+            loadService.updateLoadStatus(loadId, LoadStatus.POSTED);
         }
     }
-}
\ No newline at end of file
+    
+    // Rejects every other PENDING bid on the accepted booking's load in one statement and publishes a single
+    // BOOKINGS_REJECTED event for them; returns the number of bids rejected
+    private int rejectOtherPendingBookings(Booking accepted) {
+        Load load = accepted.getLoad();
+        int rejected = bookingRepository.rejectOtherPendingBookings(load.getId(), accepted.getId());
+        if (rejected > 0) {
+            eventPublisher.publishEvent(ChangeEvent.forRejectedBookings(load, rejected));
+        }
+        return rejected;
+    }
+    
+    // Records count bookings moving between statuses in the load's booking totals
+    private static void moveCount(Map<BookingStatus, Integer> countChanges, BookingStatus from, BookingStatus to,
+                                  int count) {
+        if (from != to && count > 0) {
+            countChanges.merge(from, -count, Integer::sum);
+            countChanges.merge(to, count, Integer::sum);
+        }
+    }
+    
+    // No pending or accepted bookings remain; also true when there are none at all
+    private static boolean allRejected(BookingCounts counts) {
+        return counts.getPending() == 0 && counts.getAccepted() == 0;
+    }
+    
+    // Initializes the lazy load association so that subscribers can filter by shipper and truck type
+    private void publishBookingEvent(ChangeEventType type, Booking booking) {
+        Load load = booking.getLoad();
+        eventPublisher.publishEvent(ChangeEvent.forBooking(type, booking, load.getShipperId(), load.getTruckType()));
+    }
+    
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        return e.getCause() instanceof ConstraintViolationException violation
+            && violation.getConstraintName() != null
+            && violation.getConstraintName().toLowerCase().contains(constraint);
+    }
+}
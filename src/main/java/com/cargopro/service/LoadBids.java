@@ -0,0 +1,67 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BidRateStats;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.enums.BookingStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+// One load's bids ordered by rate per status, with running sums for the lowest k and min/avg/max/count
+final class LoadBids {
+    
+    private static final Comparator<BookingDto> BY_RATE = Comparator.comparing(BookingDto::getProposedRate)
+        .thenComparing(BookingDto::getId);
+    
+    private final Map<UUID, BookingDto> byId = new HashMap<>();
+    private final Map<BookingStatus, NavigableSet<BookingDto>> byStatus = new EnumMap<>(BookingStatus.class);
+    private final Map<BookingStatus, Double> rateSums = new EnumMap<>(BookingStatus.class);
+    
+    LoadBids(List<BookingDto> bookings) {
+        bookings.forEach(this::put);
+    }
+    
+    synchronized void put(BookingDto booking) {
+        remove(booking.getId());
+        byId.put(booking.getId(), booking);
+        byStatus.computeIfAbsent(booking.getStatus(), status -> new TreeSet<>(BY_RATE)).add(booking);
+        rateSums.merge(booking.getStatus(), booking.getProposedRate(), Double::sum);
+    }
+    
+    synchronized void remove(UUID bookingId) {
+        BookingDto previous = byId.remove(bookingId);
+        if (previous != null) {
+            byStatus.get(previous.getStatus()).remove(previous);
+            rateSums.merge(previous.getStatus(), -previous.getProposedRate(), Double::sum);
+        }
+    }
+    
+    synchronized List<BookingDto> top(BookingStatus status, int k) {
+        List<BookingDto> top = new ArrayList<>(k);
+        NavigableSet<BookingDto> bids = byStatus.get(status);
+        if (bids != null) {
+            Iterator<BookingDto> iterator = bids.iterator();
+            while (top.size() < k && iterator.hasNext()) {
+                top.add(iterator.next());
+            }
+        }
+        return top;
+    }
+    
+    synchronized BidRateStats stats(BookingStatus status) {
+        NavigableSet<BookingDto> bids = byStatus.get(status);
+        if (bids == null || bids.isEmpty()) {
+            return new BidRateStats(0, null, null, null);
+        }
+        return new BidRateStats(bids.size(), bids.first().getProposedRate(), rateSums.get(status) / bids.size(),
+            bids.last().getProposedRate());
+    }
+}
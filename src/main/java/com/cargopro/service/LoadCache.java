@@ -0,0 +1,33 @@
+package com.cargopro.service;
+
+import com.cargopro.config.CacheConfig;
+import com.cargopro.config.ReadWriteRoutingDataSource;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.exception.ResourceNotFoundException;
+import com.cargopro.repository.LoadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// Loads by id, booking totals included; LoadService evicts an entry once a change to its load commits
+@Component
+public class LoadCache {
+    
+    private final LoadRepository loadRepository;
+    
+    @Autowired
+    public LoadCache(LoadRepository loadRepository) {
+        this.loadRepository = loadRepository;
+    }
+    
+    // Loaded inside the cache's per-key lock, so an eviction racing with this read waits for it and then removes
+    // the value instead of being overwritten by it. Misses read the primary even in a read-only transaction: a
+    // replica still replaying a write would put the old row back into the cache for every client
+    @Cacheable(cacheNames = CacheConfig.LOADS, key = "#loadId", sync = true)
+    public LoadDto getLoad(UUID loadId) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> loadRepository.findDtoById(loadId))
+            .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
+    }
+}
@@ -1,52 +1,211 @@
 package com.cargopro.service;
 
+import com.cargopro.config.CacheConfig;
+import com.cargopro.config.RetryOnConflict;
+import com.cargopro.dto.BatchItemResult;
+import com.cargopro.dto.BatchResponse;
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.KeysetCursor;
 import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.dto.PageResponse;
 import com.cargopro.entity.Load;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.cargopro.enums.CountMode;
+import com.cargopro.enums.LaneMatch;
 import com.cargopro.enums.LoadStatus;
+import com.cargopro.exception.BusinessException;
 import com.cargopro.exception.ResourceNotFoundException;
 import com.cargopro.mapper.LoadMapper;
 import com.cargopro.repository.LoadRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class LoadService {
     
+    static final int MAX_BATCH_SIZE = 5000;
+    
     private final LoadRepository loadRepository;
     private final LoadMapper loadMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoadCache loadCache;
     
     @Autowired
-    public LoadService(LoadRepository loadRepository, LoadMapper loadMapper) {
+    public LoadService(LoadRepository loadRepository, LoadMapper loadMapper, Validator validator,
+                       ApplicationEventPublisher eventPublisher, LoadCache loadCache) {
         this.loadRepository = loadRepository;
         this.loadMapper = loadMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.loadCache = loadCache;
     }
     
     public LoadDto createLoad(LoadDto loadDto) {
         Load load = loadMapper.toEntity(loadDto);
+        load.setId(null); // Ids are always generated
         load.setStatus(LoadStatus.POSTED); // Ensure status is POSTED for new loads
         Load savedLoad = loadRepository.save(load);
+        eventPublisher.publishEvent(ChangeEvent.forLoad(ChangeEventType.LOAD_CREATED, savedLoad));
         return loadMapper.toDto(savedLoad);
     }
     
+    // Invalid items are reported and skipped; valid ones are inserted together in JDBC batches
+    public BatchResponse createLoads(List<LoadDto> loadDtos) {
+        if (loadDtos.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("Batch contains " + loadDtos.size() + 
+                " loads; the maximum is " + MAX_BATCH_SIZE);
+        }
+        
+        List<BatchItemResult> results = new ArrayList<>(loadDtos.size());
+        List<Load> loads = new ArrayList<>();
+        List<Integer> loadIndexes = new ArrayList<>();
+        for (int i = 0; i < loadDtos.size(); i++) {
+            LoadDto loadDto = loadDtos.get(i);
+            Map<String, String> errors = validate(loadDto);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.rejected(i, errors));
+                continue;
+            }
+            
+            Load load = loadMapper.toEntity(loadDto);
+            load.setId(null);
+            load.setStatus(LoadStatus.POSTED);
+            loads.add(load);
+            loadIndexes.add(i);
+            results.add(null);
+        }
+        
+        List<Load> savedLoads = loadRepository.insertAll(loads);
+        for (int i = 0; i < savedLoads.size(); i++) {
+            int index = loadIndexes.get(i);
+            results.set(index, BatchItemResult.created(index, savedLoads.get(i).getId()));
+            eventPublisher.publishEvent(ChangeEvent.forLoad(ChangeEventType.LOAD_CREATED, savedLoads.get(i)));
+        }
+        return new BatchResponse(results);
+    }
+    
+    private Map<String, String> validate(LoadDto loadDto) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (loadDto == null) {
+            errors.put("load", "Load is required");
+            return errors;
+        }
+        
+        Set<ConstraintViolation<LoadDto>> violations = validator.validate(loadDto);
+        for (ConstraintViolation<LoadDto> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+    
+    @Transactional(readOnly = true)
+    public Page<LoadDto> getLoads(LoadFilter filter, Pageable pageable) {
+        filter.validate();
+        return loadRepository.findLoadDtosWithFilters(filter, pageable);
+    }
+    
+    // ESTIMATED and NONE skip the count(*) over the filtered set; see PageCounts
+    @Transactional(readOnly = true)
+    public PageResponse<LoadDto> getLoads(LoadFilter filter, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return PageResponse.of(getLoads(filter, pageable));
+        }
+        filter.validate();
+        Slice<LoadDto> loads = loadRepository.findLoadDtoSliceWithFilters(filter, pageable);
+        return PageCounts.withTotal(loads, countMode, () -> loadRepository.estimateCount(filter),
+            () -> loadRepository.countLoadsWithFilters(filter));
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<LoadDto> getLoadsByCursor(LoadFilter filter, String cursor, int size) {
+        filter.validate();
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<LoadDto> loads;
+        if (cursor == null || cursor.isBlank()) {
+            loads = loadRepository.findFirstLoadDtosByCursor(filter, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            loads = loadRepository.findLoadDtosAfterCursor(filter, position.getTimestamp(), position.getId(), pageable);
+        }
+        return toCursorPage(loads, size);
+    }
+    
+    // Lane search by loading (from) and unloading (to) point, newest first; at least one point is required
+    @Transactional(readOnly = true)
+    public CursorPage<LoadDto> searchLoads(String from, String to, LaneMatch match, String truckType, LoadStatus status,
+                                           String cursor, int size) {
+        String loadingPoint = from == null || from.isBlank() ? null : from;
+        String unloadingPoint = to == null || to.isBlank() ? null : to;
+        if (loadingPoint == null && unloadingPoint == null) {
+            throw new BusinessException("Search requires a from or to point");
+        }
+        
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Slice<LoadDto> loads = loadRepository.searchLoadDtos(loadingPoint, unloadingPoint, match, truckType, status,
+            position == null ? null : position.getTimestamp(), position == null ? null : position.getId(),
+            PageRequest.of(0, size));
+        return toCursorPage(loads, size);
+    }
+    
+    private CursorPage<LoadDto> toCursorPage(Slice<LoadDto> loads, int size) {
+        List<LoadDto> content = loads.getContent();
+        String nextCursor = null;
+        if (loads.hasNext()) {
+            LoadDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getDatePosted(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, size, nextCursor, loads.hasNext());
+    }
+    
+    // Hands rows to the consumer as they are read; the cursor stays open for the whole export
     @Transactional(readOnly = true)
-    public Page<LoadDto> getLoads(String shipperId, String truckType, LoadStatus status, Pageable pageable) {
-        Page<Load> loads = loadRepository.findLoadsWithFilters(shipperId, truckType, status, pageable);
-        return loads.map(loadMapper::toDto);
+    public void exportLoads(LoadFilter filter, Consumer<LoadDto> consumer) {
+        filter.validate();
+        try (Stream<LoadDto> loads = loadRepository.streamLoadDtosWithFilters(filter)) {
+            loads.forEach(consumer);
+        }
     }
     
+    // Read-only like the other lookups; LoadCache still loads misses from the primary
     @Transactional(readOnly = true)
     public LoadDto getLoadById(UUID loadId) {
-        Load load = loadRepository.findById(loadId)
-            .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
-        return loadMapper.toDto(load);
+        return loadCache.getLoad(loadId);
     }
     
+    // Existence check that bypasses the cache, so it may run on a replica
+    @Transactional(readOnly = true)
+    public void requireLoad(UUID loadId) {
+        if (!loadRepository.existsById(loadId)) {
+            throw new ResourceNotFoundException("Load not found with id: " + loadId);
+        }
+    }
+    
+    @RetryOnConflict
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId")
     public LoadDto updateLoad(UUID loadId, LoadDto loadDto) {
         Load existingLoad = loadRepository.findById(loadId)
             .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
@@ -56,6 +215,8 @@ public class LoadService {
         return loadMapper.toDto(updatedLoad);
     }
     
+    @RetryOnConflict
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId")
     public void deleteLoad(UUID loadId) {
         Load load = loadRepository.findById(loadId)
             .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
@@ -63,17 +224,64 @@ public class LoadService {
         loadRepository.delete(load);
     }
     
+    // Joins the caller's transaction; a stale version fails the caller's commit, which is retried there
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId")
     public void updateLoadStatus(UUID loadId, LoadStatus status) {
         Load load = loadRepository.findById(loadId)
             .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
         
         load.setStatus(status);
         loadRepository.save(load);
+        eventPublisher.publishEvent(ChangeEvent.forLoad(ChangeEventType.LOAD_STATUS_CHANGED, load));
     }
     
-    @Transactional(readOnly = true)
-    public Load getLoadEntityById(UUID loadId) {
-        return loadRepository.findById(loadId)
+    // Applied in the database rather than from a possibly cached status; evicts only when the status changed
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId", condition = "#result")
+    public boolean updateLoadStatusIfCurrent(UUID loadId, LoadStatus expectedStatus, LoadStatus status) {
+        if (loadRepository.updateStatusIfCurrent(loadId, expectedStatus, status) == 0) {
+            return false;
+        }
+        
+        // Changes at most once per load, so re-reading it for the event is cheap
+        loadRepository.findDtoById(loadId).ifPresent(load -> 
+            eventPublisher.publishEvent(ChangeEvent.forLoad(ChangeEventType.LOAD_STATUS_CHANGED, load)));
+        return true;
+    }
+    
+    // Applies signed per-status changes to the load's booking totals in the caller's transaction; evicts only
+    // when something changed, since the totals are part of the cached load
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId", condition = "#result")
+    public boolean adjustBookingCounts(UUID loadId, Map<BookingStatus, Integer> changes) {
+        int pending = changes.getOrDefault(BookingStatus.PENDING, 0);
+        int accepted = changes.getOrDefault(BookingStatus.ACCEPTED, 0);
+        int rejected = changes.getOrDefault(BookingStatus.REJECTED, 0);
+        if (pending == 0 && accepted == 0 && rejected == 0) {
+            return false;
+        }
+        return loadRepository.adjustBookingCounts(loadId, pending, accepted, rejected) > 0;
+    }
+    
+    // Checked against the load row in the caller's transaction, never against the cached status; returns false
+    // when the load is cancelled
+    @CacheEvict(cacheNames = CacheConfig.LOADS, key = "#loadId", condition = "#result")
+    public boolean addPendingBooking(UUID loadId) {
+        if (loadRepository.addPendingBookingUnlessCancelled(loadId) > 0) {
+            return true;
+        }
+        if (!loadRepository.existsById(loadId)) {
+            throw new ResourceNotFoundException("Load not found with id: " + loadId);
+        }
+        return false;
+    }
+    
+    // Read from the load row, never from the cache, so it includes the caller's uncommitted adjustments
+    public BookingCounts getBookingCounts(UUID loadId) {
+        return loadRepository.findBookingCounts(loadId)
             .orElseThrow(() -> new ResourceNotFoundException("Load not found with id: " + loadId));
     }
+    
+    // Proxy for setting foreign keys without selecting the load row
+    public Load getLoadReference(UUID loadId) {
+        return loadRepository.getReferenceById(loadId);
+    }
 }
\ No newline at end of file
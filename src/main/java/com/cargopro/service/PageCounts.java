@@ -0,0 +1,38 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.CountMode;
+import org.springframework.data.domain.Slice;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Totals for pages fetched without a count query: ESTIMATED falls back to exact where there is no estimate
+final class PageCounts {
+    
+    private PageCounts() {}
+    
+    static <T> PageResponse<T> withTotal(Slice<T> slice, CountMode countMode, Supplier<OptionalLong> estimate,
+                                         LongSupplier exactCount) {
+        if (countMode == CountMode.NONE) {
+            return PageResponse.of(slice, null, false);
+        }
+        
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        // A partly filled last page already gives the exact total
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return PageResponse.of(slice, seen, false);
+        }
+        
+        if (countMode == CountMode.ESTIMATED) {
+            OptionalLong estimated = estimate.get();
+            if (estimated.isPresent()) {
+                // Statistics can lag behind the table; never report fewer rows than this page proves exist
+                long total = slice.hasNext() ? Math.max(estimated.getAsLong(), seen + 1) : estimated.getAsLong();
+                return PageResponse.of(slice, total, true);
+            }
+        }
+        return PageResponse.of(slice, exactCount.getAsLong(), false);
+    }
+}
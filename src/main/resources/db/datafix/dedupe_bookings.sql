@@ -0,0 +1,29 @@
+-- One-off fix for PostgreSQL databases created by ddl-auto that hold duplicate bids from the old
+-- check-then-insert race, which make migration V2 stop before adding uq_bookings_load_transporter.
+-- Run it by hand, once, before the upgrade:
+--   psql -v ON_ERROR_STOP=1 -d load_booking_db -f dedupe_bookings.sql
+-- Keeps one bid per transporter and load (the accepted one if there is one, otherwise the earliest) and
+-- moves the others to bookings_duplicates_archive in the same transaction.
+BEGIN;
+
+-- Keeps new duplicates from being inserted while the fix runs
+LOCK TABLE bookings IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TABLE IF NOT EXISTS bookings_duplicates_archive (LIKE bookings INCLUDING DEFAULTS);
+ALTER TABLE bookings_duplicates_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP(6) NOT NULL DEFAULT now();
+
+WITH ranked AS (
+    SELECT id, ROW_NUMBER() OVER (
+        PARTITION BY load_id, transporter_id
+        ORDER BY (status = 'ACCEPTED') DESC, requested_at, id
+    ) AS duplicate_rank
+    FROM bookings
+), removed AS (
+    DELETE FROM bookings
+    WHERE id IN (SELECT id FROM ranked WHERE duplicate_rank > 1)
+    RETURNING *
+)
+INSERT INTO bookings_duplicates_archive
+SELECT removed.*, now() FROM removed;
+
+COMMIT;
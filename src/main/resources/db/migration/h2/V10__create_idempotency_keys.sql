@@ -0,0 +1,14 @@
+-- Store behind cargopro.idempotency.store=jdbc. status_code stays null while the
+-- first request with the key is still running.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    status_code     INTEGER,
+    content_type    VARCHAR(255),
+    body            VARBINARY,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+-- Scheduled purge of expired keys
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
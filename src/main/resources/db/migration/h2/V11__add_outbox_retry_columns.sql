@@ -0,0 +1,3 @@
+-- Mirrors the PostgreSQL migration; H2 has no partial indexes, so the pending index is unchanged.
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP(6);
+ALTER TABLE outbox_events ADD COLUMN failed_at TIMESTAMP(6);
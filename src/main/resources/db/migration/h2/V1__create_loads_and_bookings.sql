@@ -0,0 +1,30 @@
+CREATE TABLE loads (
+    id              UUID         NOT NULL,
+    shipper_id      VARCHAR(255) NOT NULL,
+    loading_point   VARCHAR(255) NOT NULL,
+    unloading_point VARCHAR(255) NOT NULL,
+    loading_date    TIMESTAMP(6) NOT NULL,
+    unloading_date  TIMESTAMP(6) NOT NULL,
+    product_type    VARCHAR(255) NOT NULL,
+    truck_type      VARCHAR(255) NOT NULL,
+    no_of_trucks    INTEGER      NOT NULL,
+    weight          FLOAT(53)    NOT NULL,
+    comment         TEXT,
+    date_posted     TIMESTAMP(6) NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_loads PRIMARY KEY (id),
+    CONSTRAINT ck_loads_status CHECK (status IN ('POSTED', 'BOOKED', 'CANCELLED'))
+);
+
+CREATE TABLE bookings (
+    id             UUID         NOT NULL,
+    load_id        UUID         NOT NULL,
+    transporter_id VARCHAR(255) NOT NULL,
+    proposed_rate  FLOAT(53)    NOT NULL,
+    comment        TEXT,
+    status         VARCHAR(255) NOT NULL,
+    requested_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_bookings PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_load FOREIGN KEY (load_id) REFERENCES loads (id),
+    CONSTRAINT ck_bookings_status CHECK (status IN ('PENDING', 'ACCEPTED', 'REJECTED'))
+);
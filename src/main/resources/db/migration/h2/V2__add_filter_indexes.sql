@@ -0,0 +1,15 @@
+-- Mirrors the PostgreSQL migration; H2 has no partial indexes, so the
+-- status-restricted indexes fall back to their full-table equivalents and
+-- the indexes are built in place rather than CONCURRENTLY. H2 databases are
+-- always created by Flyway, so there are no duplicate bids to check for.
+ALTER TABLE bookings ADD CONSTRAINT uq_bookings_load_transporter UNIQUE (load_id, transporter_id);
+
+CREATE INDEX idx_loads_date_posted ON loads (date_posted DESC, id DESC);
+CREATE INDEX idx_loads_status_date_posted ON loads (status, date_posted DESC, id DESC);
+CREATE INDEX idx_loads_shipper_status_date_posted ON loads (shipper_id, status, date_posted DESC, id DESC);
+CREATE INDEX idx_loads_truck_type_status_date_posted ON loads (truck_type, status, date_posted DESC, id DESC);
+
+CREATE INDEX idx_bookings_requested_at ON bookings (requested_at DESC, id DESC);
+CREATE INDEX idx_bookings_load_status ON bookings (load_id, status, requested_at DESC, id DESC);
+CREATE INDEX idx_bookings_transporter_status ON bookings (transporter_id, status, requested_at DESC, id DESC);
+CREATE INDEX idx_bookings_status_requested_at ON bookings (status, requested_at DESC, id DESC);
@@ -0,0 +1,16 @@
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id           BIGINT       NOT NULL,
+    event_type   VARCHAR(64)  NOT NULL,
+    load_id      UUID         NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    attempts     INTEGER      DEFAULT 0 NOT NULL,
+    last_error   TEXT,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+-- H2 has no partial indexes
+CREATE INDEX idx_outbox_events_pending ON outbox_events (published_at, id);
@@ -0,0 +1,3 @@
+-- H2 has neither pg_trgm nor expression indexes: similarity() is provided by Java
+-- and lane searches scan the loads table, which is fine for local development.
+CREATE ALIAS IF NOT EXISTS similarity FOR 'com.cargopro.repository.TrigramSimilarity.similarity';
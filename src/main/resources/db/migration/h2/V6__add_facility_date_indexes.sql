@@ -0,0 +1,7 @@
+-- Mirrors the PostgreSQL migration; H2 has no partial indexes, so the
+-- POSTED-only indexes become status-leading ones.
+CREATE INDEX idx_loads_loading_date ON loads (loading_date);
+CREATE INDEX idx_loads_unloading_date ON loads (unloading_date);
+
+CREATE INDEX idx_loads_status_loading_date ON loads (status, loading_date);
+CREATE INDEX idx_loads_status_unloading_date ON loads (status, unloading_date);
@@ -0,0 +1,3 @@
+-- GET /booking?loadId=...&sortBy=proposedRate: a load's bids cheapest or highest
+-- first, with id as the tie-breaker every sorted list endpoint appends.
+CREATE INDEX idx_bookings_load_proposed_rate ON bookings (load_id, proposed_rate, id);
@@ -0,0 +1,7 @@
+-- GET /load/{loadId}/bids/top: the k cheapest bids of one status are the first k
+-- entries of this range, and min/avg/max/count over it read only the index.
+-- GET /booking?loadId=...&status=...&sortBy=proposedRate reads the same range.
+CREATE INDEX idx_bookings_load_status_rate ON bookings (load_id, status, proposed_rate, id);
+
+-- Covered by the index above now that rate-sorted booking lists require a status.
+DROP INDEX IF EXISTS idx_bookings_load_proposed_rate;
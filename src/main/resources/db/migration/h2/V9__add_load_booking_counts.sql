@@ -0,0 +1,10 @@
+-- Per-load booking totals by status, maintained in the same transaction as every
+-- booking insert, status change and delete, and backfilled here from bookings.
+ALTER TABLE loads ADD COLUMN pending_bookings INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE loads ADD COLUMN accepted_bookings INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE loads ADD COLUMN rejected_bookings INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE loads SET
+    pending_bookings = (SELECT COUNT(*) FROM bookings b WHERE b.load_id = loads.id AND b.status = 'PENDING'),
+    accepted_bookings = (SELECT COUNT(*) FROM bookings b WHERE b.load_id = loads.id AND b.status = 'ACCEPTED'),
+    rejected_bookings = (SELECT COUNT(*) FROM bookings b WHERE b.load_id = loads.id AND b.status = 'REJECTED');
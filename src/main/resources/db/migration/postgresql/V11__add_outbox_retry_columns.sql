@@ -0,0 +1,9 @@
+-- Retry backoff for the outbox relay. A row the sink rejects is not claimed again before
+-- next_attempt_at; once it reaches cargopro.outbox.max-attempts it is parked with failed_at set.
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP(6);
+ALTER TABLE outbox_events ADD COLUMN failed_at TIMESTAMP(6);
+
+-- Parked rows leave the pending index too
+DROP INDEX idx_outbox_events_pending;
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id)
+    WHERE published_at IS NULL AND failed_at IS NULL;
@@ -0,0 +1,3 @@
+-- Optimistic locking: Hibernate bumps and checks these on every entity update
+ALTER TABLE loads ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE bookings ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
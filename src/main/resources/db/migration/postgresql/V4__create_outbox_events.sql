@@ -0,0 +1,20 @@
+-- Transactional outbox: change events are written in the same transaction as the change itself and
+-- relayed to downstream consumers afterwards. Ids come from a sequence (allocated 50 at a time) so
+-- inserts can be batched, and give the relay its delivery order.
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id           BIGINT       NOT NULL,
+    event_type   VARCHAR(64)  NOT NULL,
+    load_id      UUID         NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    attempts     INTEGER      DEFAULT 0 NOT NULL,
+    last_error   TEXT,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+-- The relay only ever reads pending rows in id order; published rows stay out of the index.
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id)
+    WHERE published_at IS NULL;
@@ -0,0 +1,14 @@
+-- Runs outside a transaction (see V5__add_lane_search_indexes.sql.conf) so that every index is
+-- built CONCURRENTLY and loads keeps accepting writes. If a statement fails, drop any index it left
+-- INVALID, fix the cause and run flyway repair before restarting.
+
+-- GET /load/search matches loading and unloading points case-insensitively.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- match=PREFIX: lower(point) LIKE 'term%', including terms shorter than a trigram.
+CREATE INDEX CONCURRENTLY idx_loads_loading_point_prefix ON loads (lower(loading_point) text_pattern_ops);
+CREATE INDEX CONCURRENTLY idx_loads_unloading_point_prefix ON loads (lower(unloading_point) text_pattern_ops);
+
+-- match=FUZZY: lower(point) % 'term', tolerating typos and word order.
+CREATE INDEX CONCURRENTLY idx_loads_loading_point_trgm ON loads USING gin (lower(loading_point) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY idx_loads_unloading_point_trgm ON loads USING gin (lower(unloading_point) gin_trgm_ops);
@@ -0,0 +1,14 @@
+-- Runs outside a transaction (see V6__add_facility_date_indexes.sql.conf) so that every index is
+-- built CONCURRENTLY and loads keeps accepting writes. If a statement fails, drop any index it left
+-- INVALID, fix the cause and run flyway repair before restarting.
+
+-- GET /load date windows (loadingFrom/loadingTo, unloadingFrom/unloadingTo).
+CREATE INDEX CONCURRENTLY idx_loads_loading_date ON loads (loading_date);
+CREATE INDEX CONCURRENTLY idx_loads_unloading_date ON loads (unloading_date);
+
+-- "POSTED loads picking up in the next 48 hours" is the common case: transporters
+-- only look for open work, so these stay a fraction of the size of the full ones.
+CREATE INDEX CONCURRENTLY idx_loads_posted_loading_date ON loads (loading_date)
+    WHERE status = 'POSTED';
+CREATE INDEX CONCURRENTLY idx_loads_posted_unloading_date ON loads (unloading_date)
+    WHERE status = 'POSTED';
@@ -0,0 +1,7 @@
+-- Runs outside a transaction (see V7__add_booking_rate_index.sql.conf) so that the index is built
+-- CONCURRENTLY and bookings keeps accepting writes. If it fails, drop the INVALID index and run
+-- flyway repair before restarting.
+
+-- GET /booking?loadId=...&sortBy=proposedRate: a load's bids cheapest or highest
+-- first, with id as the tie-breaker every sorted list endpoint appends.
+CREATE INDEX CONCURRENTLY idx_bookings_load_proposed_rate ON bookings (load_id, proposed_rate, id);
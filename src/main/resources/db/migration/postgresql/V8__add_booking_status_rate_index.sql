@@ -0,0 +1,12 @@
+-- Runs outside a transaction (see V8__add_booking_status_rate_index.sql.conf) so that the index is
+-- built and the old one dropped CONCURRENTLY, while bookings keeps accepting writes. If a statement
+-- fails, drop any index it left INVALID and run flyway repair before restarting.
+
+-- GET /load/{loadId}/bids/top: the k cheapest bids of one status are the first k
+-- entries of this range, and min/avg/max/count over it read only the index.
+-- GET /booking?loadId=...&status=...&sortBy=proposedRate reads the same range.
+CREATE INDEX CONCURRENTLY idx_bookings_load_status_rate ON bookings (load_id, status, proposed_rate, id);
+
+-- Rate-sorted booking lists now require a status, so V7's (load_id, proposed_rate, id) is covered by
+-- the index above and would only add work to every bid write.
+DROP INDEX CONCURRENTLY IF EXISTS idx_bookings_load_proposed_rate;
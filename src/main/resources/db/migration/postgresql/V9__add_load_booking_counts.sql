@@ -0,0 +1,19 @@
+-- Per-load booking totals by status, maintained in the same transaction as every
+-- booking insert, status change and delete, and backfilled here from bookings.
+ALTER TABLE loads ADD COLUMN pending_bookings INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE loads ADD COLUMN accepted_bookings INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE loads ADD COLUMN rejected_bookings INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE loads l SET
+    pending_bookings = c.pending,
+    accepted_bookings = c.accepted,
+    rejected_bookings = c.rejected
+FROM (
+    SELECT load_id,
+           COUNT(*) FILTER (WHERE status = 'PENDING') AS pending,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+           COUNT(*) FILTER (WHERE status = 'REJECTED') AS rejected
+    FROM bookings
+    GROUP BY load_id
+) c
+WHERE c.load_id = l.id;
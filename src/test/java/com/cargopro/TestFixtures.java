@@ -0,0 +1,45 @@
+package com.cargopro;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.FacilityDto;
+import com.cargopro.dto.LoadDto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Request bodies shared by the tests: by default 2 Container trucks of Electronics, Mumbai to Delhi, loading tomorrow
+public final class TestFixtures {
+    
+    private TestFixtures() {}
+    
+    public static LoadDto newLoad() {
+        return newLoad("SHIPPER001");
+    }
+    
+    public static LoadDto newLoad(String shipperId) {
+        return newLoad(shipperId, "Container");
+    }
+    
+    public static LoadDto newLoad(String shipperId, String truckType) {
+        return newLoad(shipperId, new FacilityDto("Mumbai", "Delhi",
+            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3)), truckType);
+    }
+    
+    public static LoadDto newLoad(String shipperId, LocalDateTime loadingDate, LocalDateTime unloadingDate) {
+        return newLoad(shipperId, new FacilityDto("Mumbai", "Delhi", loadingDate, unloadingDate), "Container");
+    }
+    
+    public static LoadDto newLoadOnLane(String from, String to, String truckType) {
+        return newLoad("SHIPPER001", new FacilityDto(from, to,
+            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3)), truckType);
+    }
+    
+    public static LoadDto newLoad(String shipperId, FacilityDto facility, String truckType) {
+        return new LoadDto(null, shipperId, facility, "Electronics", truckType, 2, 15.5, null, null, null);
+    }
+    
+    // The status is left unset, as in a POST /booking request
+    public static BookingDto newBooking(UUID loadId, String transporterId, double proposedRate) {
+        return new BookingDto(null, loadId, transporterId, proposedRate, null, null, null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.cargopro.config;
+
+import com.cargopro.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+    
+    private ObjectMapper objectMapper;
+    private ConcurrencyLimitFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), objectMapper);
+    }
+    
+    @Test
+    void doFilter_ShouldPassRequestsThrough_WhenUnderLimit() throws Exception {
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockFilterChain firstChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/load"), first, firstChain);
+        
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockFilterChain secondChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/load"), second, secondChain);
+        
+        // Then
+        assertNotNull(firstChain.getRequest());
+        assertNotNull(secondChain.getRequest());
+        assertEquals(200, second.getStatus());
+    }
+    
+    @Test
+    void doFilter_ShouldReturnServiceUnavailable_WhenPermitsExhausted() throws Exception {
+        // Given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/load"), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/booking"), response, chain);
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals(GlobalExceptionHandler.RETRY_AFTER_SECONDS, response.getHeader(HttpHeaders.RETRY_AFTER));
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(503, body.get("status").asInt());
+        assertEquals("uri=/booking", body.get("path").asText());
+    }
+    
+    @Test
+    void doFilter_ShouldHoldPermitUntilAsyncCompletes() throws Exception {
+        // Given an export that has started streaming asynchronously
+        MockHttpServletRequest exportRequest = new MockHttpServletRequest("GET", "/load/export");
+        exportRequest.setAsyncSupported(true);
+        FilterChain asyncChain = (request, response) -> request.startAsync();
+        filter.doFilter(exportRequest, new MockHttpServletResponse(), asyncChain);
+        
+        // When
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/load"), whileStreaming, new MockFilterChain());
+        exportRequest.getAsyncContext().complete();
+        MockHttpServletResponse afterStreaming = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/load"), afterStreaming, new MockFilterChain());
+        
+        // Then
+        assertEquals(503, whileStreaming.getStatus());
+        assertEquals(200, afterStreaming.getStatus());
+    }
+    
+    @Test
+    void doFilter_ShouldReleasePermit_WhenChainThrows() throws Exception {
+        // Given
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        assertThrows(IllegalStateException.class, () ->
+            filter.doFilter(new MockHttpServletRequest("GET", "/load"), new MockHttpServletResponse(), failingChain));
+        
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/load"), response, chain);
+        
+        // Then
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+}
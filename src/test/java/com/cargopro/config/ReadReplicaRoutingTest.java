@@ -0,0 +1,194 @@
+package com.cargopro.config;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.service.LoadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two in-memory H2 databases stand in for a primary and a replica that never replays anything
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "cargopro.datasource.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+    "cargopro.datasource.lag-query=SELECT lag_seconds FROM replica_lag",
+    "cargopro.datasource.max-replica-lag=5s",
+    "cargopro.datasource.lag-check-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+    
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private JdbcTemplate replica;
+    
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "password");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        replica = new JdbcTemplate(dataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        replicaLagMonitor.checkReplicas();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingDataSource.unpin();
+    }
+    
+    @Test
+    void getLoads_ShouldReadFromReplica_WhenReplicaIsCurrent() {
+        // Given: one load only on the primary, another only on the replica
+        String shipperId = uniqueShipperId();
+        loadService.createLoad(newLoad(shipperId));
+        UUID replicaOnlyId = insertIntoReplica(shipperId);
+        
+        // When
+        Page<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null), PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(1, loads.getTotalElements());
+        assertEquals(replicaOnlyId, loads.getContent().get(0).getId());
+    }
+    
+    @Test
+    void getLoads_ShouldReadFromPrimary_WhenReplicaLagsTooFarBehind() {
+        // Given
+        String shipperId = uniqueShipperId();
+        LoadDto created = loadService.createLoad(newLoad(shipperId));
+        replica.update("UPDATE replica_lag SET lag_seconds = 60");
+        replicaLagMonitor.checkReplicas();
+        
+        // When
+        Page<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null), PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(1, loads.getTotalElements());
+        assertEquals(created.getId(), loads.getContent().get(0).getId());
+    }
+    
+    @Test
+    void getLoads_ShouldReadFromPrimary_WhenLagCheckFails() {
+        // Given
+        String shipperId = uniqueShipperId();
+        loadService.createLoad(newLoad(shipperId));
+        replica.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.checkReplicas();
+        
+        // When
+        Page<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null), PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(1, loads.getTotalElements());
+    }
+    
+    @Test
+    void getLoads_ShouldReadOwnWrites_WhenClientSendsReadYourWritesCookie() throws Exception {
+        // Given
+        String shipperId = uniqueShipperId();
+        String body = """
+            {"shipperId":"%s","facility":{"loadingPoint":"Mumbai","unloadingPoint":"Delhi",
+             "loadingDate":"2030-01-15T10:00:00.000Z","unloadingDate":"2030-01-17T10:00:00.000Z"},
+             "productType":"Electronics","truckType":"Container","noOfTrucks":2,"weight":15.5}
+            """.formatted(shipperId);
+        
+        // When
+        MvcResult created = mockMvc.perform(post("/load").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+            .andReturn();
+        Cookie readPrimary = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        
+        // Then: the writer sees its load, a client without the cookie reads the stale replica
+        mockMvc.perform(get("/load").param("shipperId", shipperId).cookie(readPrimary))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/load").param("shipperId", shipperId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+    
+    @Test
+    void getLoadById_ShouldNotCacheStaleReplicaRow_AfterLoadIsUpdated() throws Exception {
+        // Given: the replica still holds the load as it was before the update below
+        LoadDto load = loadService.createLoad(newLoad(uniqueShipperId()));
+        insertIntoReplica(load.getId(), load.getShipperId());
+        load.setComment("Updated comment");
+        
+        // When
+        MvcResult updated = mockMvc.perform(put("/load/{loadId}", load.getId())
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(load)))
+            .andExpect(status().isOk())
+            .andReturn();
+        Cookie readPrimary = updated.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        
+        // Then: a client without the cookie misses the cache and fills it from the primary, not the replica
+        mockMvc.perform(get("/load/{loadId}", load.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comment").value("Updated comment"));
+        mockMvc.perform(get("/load/{loadId}", load.getId()).cookie(readPrimary))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comment").value("Updated comment"));
+    }
+    
+    private UUID insertIntoReplica(String shipperId) {
+        return insertIntoReplica(UUID.randomUUID(), shipperId);
+    }
+    
+    private UUID insertIntoReplica(UUID id, String shipperId) {
+        LocalDateTime loadingDate = LocalDateTime.now().plusDays(1);
+        replica.update("INSERT INTO loads (id, shipper_id, loading_point, unloading_point, loading_date, "
+                + "unloading_date, product_type, truck_type, no_of_trucks, weight, date_posted, status) "
+                + "VALUES (?, ?, 'Pune', 'Chennai', ?, ?, 'Textiles', 'Flatbed', 1, 8.0, ?, 'POSTED')",
+            id, shipperId, loadingDate, loadingDate.plusDays(2), LocalDateTime.now());
+        return id;
+    }
+    
+    private static String uniqueShipperId() {
+        return "SHIPPER-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cargopro.controller;
+
+import com.cargopro.dto.BidRateStats;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.TopBids;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BidController.class)
+class BidControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private BookingService bookingService;
+    
+    @Test
+    void getTopBids_ShouldDefaultToTenPendingBids() throws Exception {
+        // Given
+        UUID loadId = UUID.randomUUID();
+        BookingDto bid = new BookingDto(UUID.randomUUID(), loadId, "TRANS001", 18000.0, null, 
+            BookingStatus.PENDING, LocalDateTime.now());
+        when(bookingService.getTopBids(loadId, BookingStatus.PENDING, 10)).thenReturn(
+            new TopBids(loadId, BookingStatus.PENDING, List.of(bid), new BidRateStats(4, 18000.0, 21000.0, 25000.0)));
+        
+        // When & Then
+        mockMvc.perform(get("/load/{loadId}/bids/top", loadId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bids[0].transporterId").value("TRANS001"))
+                .andExpect(jsonPath("$.stats.count").value(4))
+                .andExpect(jsonPath("$.stats.minRate").value(18000.0))
+                .andExpect(jsonPath("$.stats.avgRate").value(21000.0));
+        verify(bookingService).getTopBids(loadId, BookingStatus.PENDING, 10);
+    }
+    
+    @Test
+    void getTopBids_ShouldPassKAndStatus() throws Exception {
+        // Given
+        UUID loadId = UUID.randomUUID();
+        when(bookingService.getTopBids(loadId, BookingStatus.REJECTED, 3)).thenReturn(
+            new TopBids(loadId, BookingStatus.REJECTED, List.of(), new BidRateStats(0, null, null, null)));
+        
+        // When & Then
+        mockMvc.perform(get("/load/{loadId}/bids/top", loadId).param("k", "3").param("status", "REJECTED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJECTED"))
+                .andExpect(jsonPath("$.stats.count").value(0));
+    }
+}
@@ -1,7 +1,13 @@
 package com.cargopro.controller;
 
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDecisionResponse;
+import com.cargopro.dto.BookingDecisionResult;
 import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.PageResponse;
 import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.CountMode;
 import com.cargopro.service.BookingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,17 +15,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -77,11 +90,41 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest());
     }
     
+    @Test
+    void decideBookings_ShouldReturnPerItemOutcomes() throws Exception {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        BookingDecisionResponse response = new BookingDecisionResponse(Arrays.asList(
+            BookingDecisionResult.applied(0, testBookingId, BookingStatus.ACCEPTED),
+            BookingDecisionResult.failed(1, unknownId, "Booking not found with id: " + unknownId)));
+        when(bookingService.decideBookings(argThat(decisions -> decisions.size() == 2
+                && decisions.get(0).getStatus() == BookingStatus.ACCEPTED)))
+            .thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/booking/decisions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(
+                    new BookingDecision(testBookingId, BookingStatus.ACCEPTED),
+                    new BookingDecision(unknownId, BookingStatus.REJECTED)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$.results[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].outcome").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].bookingId").value(unknownId.toString()))
+                .andExpect(jsonPath("$.results[1].status").doesNotExist());
+    }
+    
     @Test
     void getBookings_ShouldReturnPageOfBookings_WhenValidRequest() throws Exception {
         // Given
-        Page<BookingDto> bookingPage = new PageImpl<>(Arrays.asList(testBookingDto));
-        when(bookingService.getBookings(eq(testLoadId), eq("TRANS001"), eq(BookingStatus.PENDING), any()))
+        PageResponse<BookingDto> bookingPage = PageResponse.of(new PageImpl<>(Arrays.asList(testBookingDto)));
+        when(bookingService.getBookings(eq(testLoadId), eq("TRANS001"), eq(BookingStatus.PENDING), any(),
+                eq(CountMode.EXACT)))
             .thenReturn(bookingPage);
         
         // When & Then
@@ -96,6 +139,80 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
     
+    @Test
+    void getBookings_ShouldSortByProposedRate_WhenLoadIdAndStatusGiven() throws Exception {
+        // Given
+        Sort expected = Sort.by(Sort.Direction.ASC, "proposedRate", "id");
+        when(bookingService.getBookings(eq(testLoadId), any(), eq(BookingStatus.PENDING),
+                argThat(pageable -> pageable.getSort().equals(expected)), any()))
+            .thenReturn(PageResponse.of(new PageImpl<>(Arrays.asList(testBookingDto), PageRequest.of(0, 10), 1)));
+        
+        // When & Then
+        mockMvc.perform(get("/booking")
+                .param("loadId", testLoadId.toString())
+                .param("status", "PENDING")
+                .param("sortBy", "proposedRate")
+                .param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].proposedRate").value(25000.0));
+    }
+    
+    @Test
+    void getBookings_ShouldReturnBadRequest_WhenSortingByProposedRateWithoutLoadId() throws Exception {
+        mockMvc.perform(get("/booking").param("sortBy", "proposedRate"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(bookingService);
+    }
+    
+    @Test
+    void getBookings_ShouldReturnBadRequest_WhenSortingByProposedRateWithoutStatus() throws Exception {
+        mockMvc.perform(get("/booking").param("loadId", testLoadId.toString()).param("sortBy", "proposedRate"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(bookingService);
+    }
+    
+    @Test
+    void getBookingsByCursor_ShouldReturnCursorPage_WhenCursorParamPresent() throws Exception {
+        // Given
+        CursorPage<BookingDto> bookingPage = new CursorPage<>(Arrays.asList(testBookingDto), 10, "next-token", true);
+        when(bookingService.getBookingsByCursor(eq(testLoadId), eq(null), eq(null), eq(""), eq(10)))
+            .thenReturn(bookingPage);
+        
+        // When & Then
+        mockMvc.perform(get("/booking")
+                .param("loadId", testLoadId.toString())
+                .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].transporterId").value("TRANS001"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+    
+    @Test
+    void exportBookings_ShouldStreamNdjson_WhenFiltersApplied() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<BookingDto> consumer = invocation.getArgument(3);
+            consumer.accept(testBookingDto);
+            consumer.accept(testBookingDto);
+            return null;
+        }).when(bookingService).exportBookings(eq(testLoadId), eq(null), eq(null), any());
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/booking/export")
+                .param("loadId", testLoadId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        String expectedLine = objectMapper.writeValueAsString(testBookingDto);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(content().string(expectedLine + "\n" + expectedLine + "\n"));
+    }
+    
     @Test
     void getBookingById_ShouldReturnBooking_WhenBookingExists() throws Exception {
         // Given
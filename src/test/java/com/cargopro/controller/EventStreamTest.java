@@ -0,0 +1,97 @@
+package com.cargopro.controller;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.service.BookingService;
+import com.cargopro.service.LoadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventStreamTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Test
+    void subscribe_ShouldStreamCommittedLoadsMatchingFilter() throws Exception {
+        // Given
+        String truckType = "Reefer-" + UUID.randomUUID();
+        MvcResult subscription = mockMvc.perform(get("/events").param("truckType", truckType).param("status", "POSTED"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // When
+        LoadDto other = loadService.createLoad(newLoad("SHIPPER001", "Flatbed"));
+        LoadDto matching = loadService.createLoad(newLoad("SHIPPER001", truckType));
+        
+        // Then
+        String stream = awaitContent(subscription.getResponse(), matching.getId().toString());
+        assertTrue(stream.contains("event:LOAD_CREATED"));
+        assertFalse(stream.contains(other.getId().toString()));
+    }
+    
+    @Test
+    void subscribe_ShouldStreamBookingAndLoadStatusChanges_ForShipper() throws Exception {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LoadDto load = loadService.createLoad(newLoad(shipperId, "Container"));
+        MvcResult subscription = mockMvc.perform(get("/events").param("shipperId", shipperId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // When
+        BookingDto booking = bookingService.createBooking(newBooking(load.getId(), "TRANS001", 20000.0));
+        
+        // Then
+        String stream = awaitContent(subscription.getResponse(), booking.getId().toString());
+        assertTrue(stream.contains("event:BOOKING_CREATED"));
+        assertTrue(stream.contains("event:LOAD_STATUS_CHANGED"));
+        assertTrue(stream.contains("\"status\":\"BOOKED\""));
+    }
+    
+    @Test
+    void subscribe_ShouldReturnBadRequest_WhenStatusIsUnknown() throws Exception {
+        mockMvc.perform(get("/events").param("status", "SHIPPED"))
+            .andExpect(status().isBadRequest());
+    }
+    
+    // Events are written by the broadcaster's sender threads, after the publishing transaction commits
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Event not received, stream was: " + content);
+        return content;
+    }
+}
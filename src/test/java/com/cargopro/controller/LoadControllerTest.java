@@ -1,7 +1,13 @@
 package com.cargopro.controller;
 
+import com.cargopro.dto.BatchItemResult;
+import com.cargopro.dto.BatchResponse;
+import com.cargopro.dto.CursorPage;
 import com.cargopro.dto.FacilityDto;
 import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.CountMode;
+import com.cargopro.enums.LaneMatch;
 import com.cargopro.enums.LoadStatus;
 import com.cargopro.service.LoadService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,18 +16,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -80,11 +97,35 @@ class LoadControllerTest {
                 .andExpect(status().isBadRequest());
     }
     
+    @Test
+    void createLoads_ShouldReturnPerItemResults_WhenBatchSubmitted() throws Exception {
+        // Given
+        BatchResponse response = new BatchResponse(Arrays.asList(
+            BatchItemResult.created(0, testLoadId),
+            BatchItemResult.rejected(1, Map.of("shipperId", "Shipper ID is required"))));
+        when(loadService.createLoads(any())).thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/load/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(testLoadDto, new LoadDto()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(testLoadId.toString()))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].errors.shipperId").value("Shipper ID is required"))
+                .andExpect(jsonPath("$.results[1].id").doesNotExist());
+    }
+    
     @Test
     void getLoads_ShouldReturnPageOfLoads_WhenValidRequest() throws Exception {
         // Given
-        Page<LoadDto> loadPage = new PageImpl<>(Arrays.asList(testLoadDto));
-        when(loadService.getLoads(eq("SHIPPER001"), eq("Container"), eq(LoadStatus.POSTED), any()))
+        PageResponse<LoadDto> loadPage = PageResponse.of(new PageImpl<>(Arrays.asList(testLoadDto)));
+        when(loadService.getLoads(argThat(filter -> "SHIPPER001".equals(filter.getShipperId())
+                && "Container".equals(filter.getTruckType()) && filter.getStatus() == LoadStatus.POSTED), any(),
+                eq(CountMode.EXACT)))
             .thenReturn(loadPage);
         
         // When & Then
@@ -99,6 +140,233 @@ class LoadControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
     
+    @Test
+    void getLoads_ShouldPassDateWindows_WhenGiven() throws Exception {
+        // Given
+        when(loadService.getLoads(argThat(filter -> filter.getStatus() == LoadStatus.POSTED
+                && LocalDateTime.of(2024, 1, 20, 0, 0).equals(filter.getLoadingFrom())
+                && LocalDateTime.of(2024, 1, 22, 0, 0).equals(filter.getLoadingTo())
+                && filter.getUnloadingFrom() == null
+                && LocalDateTime.of(2024, 1, 25, 12, 30).equals(filter.getUnloadingTo())), any(), any()))
+            .thenReturn(PageResponse.of(new PageImpl<>(Arrays.asList(testLoadDto), PageRequest.of(0, 10), 1)));
+        
+        // When & Then
+        mockMvc.perform(get("/load")
+                .param("status", "POSTED")
+                .param("loadingFrom", "2024-01-20T00:00:00.000Z")
+                .param("loadingTo", "2024-01-22T00:00:00")
+                .param("unloadingTo", "2024-01-25T12:30:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(testLoadId.toString()));
+    }
+    
+    @Test
+    void getLoads_ShouldReturnBadRequest_WhenDateIsMalformed() throws Exception {
+        mockMvc.perform(get("/load").param("loadingFrom", "next tuesday"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void getLoads_ShouldSortByIndexedFieldWithIdTieBreaker() throws Exception {
+        // Given
+        Sort expected = Sort.by(Sort.Order.asc("facility.loadingDate"), Sort.Order.asc("id"));
+        when(loadService.getLoads(any(), argThat(pageable -> pageable.getSort().equals(expected)), any()))
+            .thenReturn(PageResponse.of(new PageImpl<>(Arrays.asList(testLoadDto), PageRequest.of(0, 10), 1)));
+        
+        // When & Then
+        mockMvc.perform(get("/load")
+                .param("sortBy", "loadingDate")
+                .param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(testLoadId.toString()));
+    }
+    
+    @Test
+    void getLoads_ShouldReturnBadRequest_WhenNoIndexServesSort() throws Exception {
+        mockMvc.perform(get("/load")
+                .param("sortBy", "loadingDate,datePosted")
+                .param("sortDir", "asc,desc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/load")
+                .param("sortBy", "loadingDate,datePosted")
+                .param("sortDir", "asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("No index serves sorting by")));
+        verifyNoInteractions(loadService);
+    }
+    
+    @Test
+    void getLoads_ShouldKeepSpringPageFields() throws Exception {
+        // Given
+        when(loadService.getLoads(any(), any(), any()))
+            .thenReturn(PageResponse.of(new PageImpl<>(Arrays.asList(testLoadDto), 
+                PageRequest.of(2, 10, Sort.by("datePosted")), 21)));
+        
+        // When & Then
+        mockMvc.perform(get("/load").param("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.empty").value(false))
+                .andExpect(jsonPath("$.sort.sorted").value(true))
+                .andExpect(jsonPath("$.sort.unsorted").value(false))
+                .andExpect(jsonPath("$.pageable.pageNumber").value(2))
+                .andExpect(jsonPath("$.pageable.pageSize").value(10))
+                .andExpect(jsonPath("$.pageable.offset").value(20))
+                .andExpect(jsonPath("$.pageable.paged").value(true))
+                .andExpect(jsonPath("$.pageable.sort.sorted").value(true));
+    }
+    
+    @Test
+    void getLoads_ShouldOmitTotal_WhenCountIsNone() throws Exception {
+        // Given
+        PageResponse<LoadDto> loadPage = PageResponse.of(
+            new SliceImpl<>(Arrays.asList(testLoadDto), PageRequest.of(0, 10), true), null, false);
+        when(loadService.getLoads(any(), any(), eq(CountMode.NONE))).thenReturn(loadPage);
+        
+        // When & Then
+        mockMvc.perform(get("/load").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(testLoadId.toString()))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").isEmpty())
+                .andExpect(jsonPath("$.totalPages").isEmpty());
+    }
+    
+    @Test
+    void getLoads_ShouldFlagEstimatedTotal_WhenCountIsEstimated() throws Exception {
+        // Given
+        PageResponse<LoadDto> loadPage = PageResponse.of(
+            new SliceImpl<>(Arrays.asList(testLoadDto), PageRequest.of(0, 10), true), 48210L, true);
+        when(loadService.getLoads(any(), any(), eq(CountMode.ESTIMATED))).thenReturn(loadPage);
+        
+        // When & Then
+        mockMvc.perform(get("/load").param("status", "POSTED").param("count", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(48210))
+                .andExpect(jsonPath("$.totalPages").value(4821))
+                .andExpect(jsonPath("$.totalEstimated").value(true));
+    }
+    
+    @Test
+    void getLoads_ShouldReturnBadRequest_WhenCountModeIsUnknown() throws Exception {
+        mockMvc.perform(get("/load").param("count", "SOMETIMES"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(loadService);
+    }
+    
+    @Test
+    void getLoads_ShouldReturnBadRequest_WhenSortFieldIsNotSortable() throws Exception {
+        mockMvc.perform(get("/load").param("sortBy", "comment"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("sortable fields are")));
+        verifyNoInteractions(loadService);
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldReturnCursorPage_WhenCursorParamPresent() throws Exception {
+        // Given
+        CursorPage<LoadDto> loadPage = new CursorPage<>(Arrays.asList(testLoadDto), 1, "next-token", true);
+        when(loadService.getLoadsByCursor(argThat(filter -> "SHIPPER001".equals(filter.getShipperId())
+                && filter.getTruckType() == null && filter.getStatus() == null), eq(""), eq(1)))
+            .thenReturn(loadPage);
+        
+        // When & Then
+        mockMvc.perform(get("/load")
+                .param("shipperId", "SHIPPER001")
+                .param("cursor", "")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].shipperId").value("SHIPPER001"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldPassCursorThrough_WhenFetchingNextPage() throws Exception {
+        // Given
+        CursorPage<LoadDto> lastPage = new CursorPage<>(Collections.emptyList(), 10, null, false);
+        when(loadService.getLoadsByCursor(any(), eq("next-token"), eq(10))).thenReturn(lastPage);
+        
+        // When & Then
+        mockMvc.perform(get("/load").param("cursor", "next-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+    
+    @Test
+    void searchLoads_ShouldReturnCursorPage_WhenLaneGiven() throws Exception {
+        // Given
+        CursorPage<LoadDto> loadPage = new CursorPage<>(Arrays.asList(testLoadDto), 10, null, false);
+        when(loadService.searchLoads(eq("Mum"), eq("Del"), eq(LaneMatch.PREFIX), eq("Container"), eq(LoadStatus.POSTED),
+                eq(null), eq(10)))
+            .thenReturn(loadPage);
+        
+        // When & Then
+        mockMvc.perform(get("/load/search")
+                .param("from", "Mum")
+                .param("to", "Del")
+                .param("truckType", "Container")
+                .param("status", "POSTED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].facility.loadingPoint").value("Mumbai"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+    
+    @Test
+    void searchLoads_ShouldReturnBadRequest_WhenMatchIsUnknown() throws Exception {
+        mockMvc.perform(get("/load/search").param("from", "Mumbai").param("match", "REGEX"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void exportLoads_ShouldReturnBadRequestBeforeStreaming_WhenDateWindowIsEmpty() throws Exception {
+        mockMvc.perform(get("/load/export")
+                .param("unloadingFrom", "2024-01-22T00:00:00Z")
+                .param("unloadingTo", "2024-01-20T00:00:00Z"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(loadService);
+    }
+    
+    @Test
+    void exportLoads_ShouldUseExportTimeout_InsteadOfAsyncDefault() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/load/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+    }
+    
+    @Test
+    void exportLoads_ShouldStreamNdjson_WhenFiltersApplied() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<LoadDto> consumer = invocation.getArgument(1);
+            consumer.accept(testLoadDto);
+            consumer.accept(testLoadDto);
+            return null;
+        }).when(loadService).exportLoads(argThat(filter -> "SHIPPER001".equals(filter.getShipperId())
+                && filter.getStatus() == LoadStatus.POSTED), any());
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/load/export")
+                .param("shipperId", "SHIPPER001")
+                .param("status", "POSTED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        String expectedLine = objectMapper.writeValueAsString(testLoadDto);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(content().string(expectedLine + "\n" + expectedLine + "\n"));
+    }
+    
     @Test
     void getLoadById_ShouldReturnLoad_WhenLoadExists() throws Exception {
         // Given
@@ -0,0 +1,81 @@
+package com.cargopro.controller;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.service.LoadService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestMetricsTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Test
+    void getLoadById_ShouldRecordSqlStatementsAndServiceTimer() throws Exception {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        
+        DistributionSummary statements = DistributionSummary.builder("cargopro.http.sql.statements")
+            .baseUnit("statements").tag("method", "GET").tag("uri", "/load/{loadId}").register(meterRegistry);
+        long requestsBefore = statements.count();
+        double statementsBefore = statements.totalAmount();
+        
+        // When
+        mockMvc.perform(get("/load/{loadId}", load.getId())).andExpect(status().isOk());
+        
+        // Then: a single projection query, no entity load
+        assertEquals(requestsBefore + 1, statements.count());
+        assertEquals(statementsBefore + 1, statements.totalAmount());
+        
+        Timer timer = meterRegistry.find("cargopro.service")
+            .tag("class", "LoadService").tag("method", "getLoadById").tag("outcome", "SUCCESS").timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+    
+    @Test
+    void getLoadById_ShouldTagServiceTimerWithOutcome_WhenLoadNotFound() throws Exception {
+        // When
+        mockMvc.perform(get("/load/{loadId}", UUID.randomUUID())).andExpect(status().isNotFound());
+        
+        // Then
+        Timer timer = meterRegistry.find("cargopro.service")
+            .tag("method", "getLoadById").tag("outcome", "NOT_FOUND")
+            .tag("exception", "ResourceNotFoundException").timer();
+        assertNotNull(timer);
+    }
+    
+    @Test
+    void registry_ShouldExposePoolAndHibernateMeters() {
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").timer());
+        assertNotNull(meterRegistry.find("hibernate.statements").functionCounter());
+    }
+}
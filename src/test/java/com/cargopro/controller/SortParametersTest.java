@@ -0,0 +1,73 @@
+package com.cargopro.controller;
+
+import com.cargopro.enums.LoadSortField;
+import com.cargopro.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortParametersTest {
+    
+    @Test
+    void toSort_ShouldAppendIdInLastDirection_WhenSingleField() {
+        // When
+        Sort sort = SortParameters.toSort(SortParameters.parseFields("datePosted", LoadSortField.class), "desc",
+            LoadSortField.INDEXED_SORTS);
+        
+        // Then
+        assertEquals(Sort.by(Sort.Direction.DESC, "datePosted", "id"), sort);
+    }
+    
+    @Test
+    void toSort_ShouldRejectFieldListsNoIndexServes() {
+        // Given
+        List<LoadSortField> fields = SortParameters.parseFields("loadingDate, datePosted", LoadSortField.class);
+        
+        // When
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> SortParameters.toSort(fields, "asc", LoadSortField.INDEXED_SORTS));
+        
+        // Then
+        assertTrue(ex.getMessage().contains("loadingDate,datePosted"));
+        assertTrue(ex.getMessage().contains("datePosted, loadingDate, unloadingDate"));
+    }
+    
+    @Test
+    void toSort_ShouldRejectMixedDirections() {
+        // Given
+        List<LoadSortField> fields = List.of(LoadSortField.LOADING_DATE, LoadSortField.DATE_POSTED);
+        List<List<LoadSortField>> indexedSorts = List.of(fields);
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> SortParameters.toSort(fields, "asc,desc", indexedSorts));
+        assertEquals(Sort.by(Sort.Direction.ASC, "facility.loadingDate", "datePosted", "id"),
+            SortParameters.toSort(fields, "asc,ASC", indexedSorts));
+    }
+    
+    @Test
+    void parseFields_ShouldRejectFieldsOutsideWhitelist() {
+        // When
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> SortParameters.parseFields("comment", LoadSortField.class));
+        
+        // Then
+        assertTrue(ex.getMessage().contains("datePosted, loadingDate, unloadingDate"));
+    }
+    
+    @Test
+    void parseFields_ShouldRejectRepeatedFields() {
+        assertThrows(BusinessException.class,
+            () -> SortParameters.parseFields("loadingDate,loadingDate", LoadSortField.class));
+    }
+    
+    @Test
+    void toSort_ShouldRejectInvalidDirections() {
+        List<LoadSortField> fields = SortParameters.parseFields("loadingDate", LoadSortField.class);
+        
+        assertThrows(BusinessException.class, () -> SortParameters.toSort(fields, "sideways", LoadSortField.INDEXED_SORTS));
+        assertThrows(BusinessException.class, () -> SortParameters.toSort(fields, "asc,desc", LoadSortField.INDEXED_SORTS));
+    }
+}
@@ -0,0 +1,102 @@
+package com.cargopro.event;
+
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.enums.ChangeEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeEventBroadcasterTest {
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch writeEntered = new CountDownLatch(1);
+    private final CountDownLatch writeTimedOut = new CountDownLatch(1);
+    private final CountDownLatch stalledCompleted = new CountDownLatch(1);
+    private final Queue<SseEmitter.SseEventBuilder> delivered = new ConcurrentLinkedQueue<>();
+    
+    private SseEmitter nextEmitter;
+    
+    // One sender thread, so a single stuck write would stop delivery to everyone
+    private final ChangeEventBroadcaster broadcaster = new ChangeEventBroadcaster(
+            new ObjectMapper().findAndRegisterModules(), meterRegistry, 100, 16, Duration.ofMinutes(30),
+            Duration.ofHours(1), 1, Duration.ofMillis(200)) {
+        @Override
+        SseEmitter newEmitter(long timeoutMillis) {
+            return nextEmitter;
+        }
+    };
+    
+    @AfterEach
+    void tearDown() {
+        writeTimedOut.countDown();
+        broadcaster.shutdown();
+    }
+    
+    @Test
+    void onChange_ShouldDropStalledSubscriber_AndKeepDeliveringToOthers() throws Exception {
+        // Given a client that stopped reading: its write blocks until the container times it out
+        nextEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                writeEntered.countDown();
+                try {
+                    writeTimedOut.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Write timed out");
+            }
+            
+            @Override
+            public synchronized void completeWithError(Throwable ex) {
+                stalledCompleted.countDown();
+            }
+        };
+        broadcaster.subscribe(new ChangeEventFilter(null, null, null));
+        broadcaster.onChange(newEvent());
+        assertTrue(writeEntered.await(5, TimeUnit.SECONDS));
+        
+        nextEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.add(builder);
+            }
+        };
+        broadcaster.subscribe(new ChangeEventFilter(null, null, null));
+        
+        // When
+        broadcaster.onChange(newEvent());
+        
+        // Then the healthy subscriber is served while the stalled write is still stuck
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (delivered.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, delivered.size());
+        assertEquals(1.0, meterRegistry.get("cargopro.events.stalled").counter().count());
+        assertEquals(1.0, meterRegistry.get("cargopro.events.subscribers").gauge().value());
+        
+        // And the stalled emitter is completed once its write finally returns
+        writeTimedOut.countDown();
+        assertTrue(stalledCompleted.await(5, TimeUnit.SECONDS));
+    }
+    
+    private static ChangeEvent newEvent() {
+        return new ChangeEvent(ChangeEventType.LOAD_CREATED, UUID.randomUUID(), null, "SHIPPER001", "Container",
+            null, "POSTED", LocalDateTime.now());
+    }
+}
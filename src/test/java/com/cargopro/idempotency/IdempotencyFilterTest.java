@@ -0,0 +1,196 @@
+package com.cargopro.idempotency;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.repository.LoadRepository;
+import com.cargopro.service.LoadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private LoadRepository loadRepository;
+    
+    @Test
+    void createLoad_ShouldReplayOriginalResponse_WhenRetriedWithSameKey() throws Exception {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        String body = objectMapper.writeValueAsString(newLoad(shipperId));
+        String key = UUID.randomUUID().toString();
+        
+        // When
+        MvcResult first = mockMvc.perform(createLoad(body, key))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+        MvcResult retry = mockMvc.perform(createLoad(body, key))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        
+        // Then
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertEquals(1, loadRepository.countLoadsWithFilters(new LoadFilter(shipperId, null, null)));
+    }
+    
+    @Test
+    void createLoad_ShouldRunEveryRequest_WhenNoKeyIsSent() throws Exception {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        String body = objectMapper.writeValueAsString(newLoad(shipperId));
+        
+        // When
+        mockMvc.perform(createLoad(body, null)).andExpect(status().isCreated());
+        mockMvc.perform(createLoad(body, null)).andExpect(status().isCreated());
+        
+        // Then
+        assertEquals(2, loadRepository.countLoadsWithFilters(new LoadFilter(shipperId, null, null)));
+    }
+    
+    @Test
+    void createLoad_ShouldReturnUnprocessableEntity_WhenKeyIsReusedForDifferentBody() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(createLoad(objectMapper.writeValueAsString(newLoad("SHIPPER001")), key))
+                .andExpect(status().isCreated());
+        
+        // When & Then
+        mockMvc.perform(createLoad(objectMapper.writeValueAsString(newLoad("SHIPPER002")), key))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value(IdempotencyFilter.HEADER + " was already used for a different request"));
+    }
+    
+    @Test
+    void createLoad_ShouldReturnBadRequest_WhenKeyIsTooLong() throws Exception {
+        // When & Then
+        mockMvc.perform(createLoad(objectMapper.writeValueAsString(newLoad("SHIPPER001")), "k".repeat(256)))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void createBooking_ShouldReplayCreatedBooking_InsteadOfDuplicateError() throws Exception {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad("SHIPPER001"));
+        String body = objectMapper.writeValueAsString(newBooking(load.getId(), "TRANS001", 20000.0));
+        String key = UUID.randomUUID().toString();
+        
+        // When
+        MvcResult first = mockMvc.perform(post("/booking").header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        
+        // Then the retry gets the same booking back rather than "Transporter already has a booking"
+        mockMvc.perform(post("/booking").header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(first.getResponse().getContentAsString()));
+        assertEquals(1, loadService.getLoadById(load.getId()).getBookingCounts().getPending());
+    }
+    
+    @Test
+    void cachedBodyRequest_ShouldHandWholeBodyToReadListener() throws Exception {
+        // Given
+        ServletInputStream input = new IdempotencyFilter.CachedBodyRequest(new MockHttpServletRequest(),
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8)).getInputStream();
+        List<String> calls = new ArrayList<>();
+        
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            
+            @Override
+            public void onAllDataRead() {
+                calls.add("all data read");
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+        
+        // Then
+        assertEquals(List.of("{\"id\":1}", "all data read"), calls);
+        assertTrue(input.isFinished());
+    }
+    
+    @Test
+    void cachedBodyRequest_ShouldReportListenerFailureToOnError() {
+        // Given
+        ServletInputStream input = new IdempotencyFilter.CachedBodyRequest(new MockHttpServletRequest(), 
+            new byte[0]).getInputStream();
+        List<Throwable> errors = new ArrayList<>();
+        
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("handler failed");
+            }
+            
+            @Override
+            public void onAllDataRead() {
+                fail("onAllDataRead should not be called after a failure");
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+        
+        // Then
+        assertEquals(1, errors.size());
+        assertEquals("handler failed", errors.get(0).getMessage());
+    }
+    
+    private static MockHttpServletRequestBuilder createLoad(String body, String key) {
+        MockHttpServletRequestBuilder request = post("/load").contentType(MediaType.APPLICATION_JSON).content(body);
+        return key == null ? request : request.header(IdempotencyFilter.HEADER, key);
+    }
+}
@@ -0,0 +1,114 @@
+package com.cargopro.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "cargopro.idempotency.store=jdbc",
+    "cargopro.idempotency.ttl=1h",
+    "cargopro.idempotency.in-progress-timeout=1m"
+})
+@ActiveProfiles("test")
+class JdbcIdempotencyStoreTest {
+    
+    @Autowired
+    private IdempotencyStore store;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void claim_ShouldReturnStoredResponse_OnceKeyIsCompleted() {
+        // Given
+        String key = UUID.randomUUID().toString();
+        assertInstanceOf(JdbcIdempotencyStore.class, store);
+        
+        // When
+        Optional<IdempotencyRecord> firstClaim = store.claim(key, "fingerprint");
+        Optional<IdempotencyRecord> whileRunning = store.claim(key, "fingerprint");
+        store.complete(key, IdempotencyRecord.completed("fingerprint", 201, "application/json", 
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        Optional<IdempotencyRecord> afterCompletion = store.claim(key, "fingerprint");
+        
+        // Then
+        assertTrue(firstClaim.isEmpty());
+        assertFalse(whileRunning.orElseThrow().isCompleted());
+        IdempotencyRecord record = afterCompletion.orElseThrow();
+        assertEquals(201, record.getStatus());
+        assertEquals("application/json", record.getContentType());
+        assertEquals("{\"id\":1}", new String(record.getBody(), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void release_ShouldFreeKeyForRetry() {
+        // Given
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "fingerprint");
+        
+        // When
+        store.release(key);
+        
+        // Then
+        assertTrue(store.claim(key, "fingerprint").isEmpty());
+    }
+    
+    @Test
+    void purgeExpired_ShouldRemoveExpiredAndAbandonedKeys() {
+        // Given
+        String expired = UUID.randomUUID().toString();
+        String abandoned = UUID.randomUUID().toString();
+        String running = UUID.randomUUID().toString();
+        store.claim(expired, "fingerprint");
+        store.complete(expired, IdempotencyRecord.completed("fingerprint", 201, null, new byte[0]));
+        store.claim(abandoned, "fingerprint");
+        store.claim(running, "fingerprint");
+        backdate(expired, LocalDateTime.now().minusHours(2));
+        backdate(abandoned, LocalDateTime.now().minusMinutes(5));
+        
+        // When
+        ((JdbcIdempotencyStore) store).purgeExpired();
+        
+        // Then
+        assertTrue(store.claim(expired, "fingerprint").isEmpty());
+        assertTrue(store.claim(abandoned, "fingerprint").isEmpty());
+        assertTrue(store.claim(running, "fingerprint").isPresent());
+    }
+    
+    @Test
+    void complete_ShouldStoreResponse_WhenKeyWasPurgedWhileRunning() {
+        // Given a request that outlived in-progress-timeout
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "fingerprint");
+        backdate(key, LocalDateTime.now().minusMinutes(5));
+        ((JdbcIdempotencyStore) store).purgeExpired();
+        
+        // When
+        store.complete(key, IdempotencyRecord.completed("fingerprint", 201, "application/json", 
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        
+        // Then a retry still gets the response replayed
+        IdempotencyRecord record = store.claim(key, "fingerprint").orElseThrow();
+        assertEquals(201, record.getStatus());
+        assertEquals("fingerprint", record.getFingerprint());
+        assertEquals("{\"id\":1}", new String(record.getBody(), StandardCharsets.UTF_8));
+    }
+    
+    private void backdate(String key, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = ? WHERE idempotency_key = ?", 
+            Timestamp.valueOf(createdAt), key);
+    }
+}
@@ -0,0 +1,274 @@
+package com.cargopro.outbox;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.entity.OutboxEvent;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.cargopro.repository.OutboxEventRepository;
+import com.cargopro.service.BookingService;
+import com.cargopro.service.LoadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "cargopro.outbox.max-attempts=3"
+})
+@ActiveProfiles("test")
+@Import(OutboxRelayTest.RecordingSinkConfig.class)
+class OutboxRelayTest {
+    
+    @Autowired
+    private OutboxRelay outboxRelay;
+    
+    @Autowired
+    private RecordingSink sink;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        // The database is shared with other tests, so drain whatever they left pending
+        sink.failing = false;
+        sink.poisonLoadId = null;
+        makeRetriesDue();
+        outboxRelay.relayPending();
+        sink.received.clear();
+    }
+    
+    @Test
+    void relayPending_ShouldDeliverBookingAndLoadEventsInOrder() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        BookingDto booking = bookingService.createBooking(newBooking(load.getId(), "TRANS001", 20000.0));
+        bookingService.deleteBooking(booking.getId());
+        
+        // When
+        int delivered = outboxRelay.relayPending();
+        
+        // Then
+        List<OutboxEvent> events = sink.receivedFor(load.getId());
+        assertEquals(5, delivered);
+        assertEquals(List.of(ChangeEventType.LOAD_CREATED, ChangeEventType.LOAD_STATUS_CHANGED,
+                ChangeEventType.BOOKING_CREATED, ChangeEventType.BOOKING_DELETED, ChangeEventType.LOAD_STATUS_CHANGED),
+            events.stream().map(OutboxEvent::getEventType).toList());
+        assertTrue(events.get(4).getPayload().contains("\"status\":\"CANCELLED\""));
+        assertTrue(events.stream().allMatch(event -> event.getPublishedAt() != null));
+        assertEquals(0, outboxRelay.relayPending());
+    }
+    
+    @Test
+    void relayPending_ShouldDeliverAcceptedBooking() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        BookingDto booking = bookingService.createBooking(newBooking(load.getId(), "TRANS001", 20000.0));
+        bookingService.updateBooking(booking.getId(),
+            new BookingDto(null, load.getId(), "TRANS001", 20000.0, null, BookingStatus.ACCEPTED, null));
+        
+        // When
+        outboxRelay.relayPending();
+        
+        // Then
+        OutboxEvent accepted = sink.receivedFor(load.getId()).get(3);
+        assertEquals(ChangeEventType.BOOKING_UPDATED, accepted.getEventType());
+        assertTrue(accepted.getPayload().contains("\"status\":\"ACCEPTED\""));
+    }
+    
+    @Test
+    void relayPending_ShouldDeliverOneEventForRejectedBookings_WhenAnotherBookingIsAccepted() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        BookingDto booking = bookingService.createBooking(newBooking(load.getId(), "TRANS001", 20000.0));
+        bookingService.createBooking(newBooking(load.getId(), "TRANS002", 21000.0));
+        bookingService.createBooking(newBooking(load.getId(), "TRANS003", 22000.0));
+        bookingService.updateBooking(booking.getId(),
+            new BookingDto(null, load.getId(), "TRANS001", 20000.0, null, BookingStatus.ACCEPTED, null));
+        
+        // When
+        outboxRelay.relayPending();
+        
+        // Then: one event for both rejected bookings, then the accepted one
+        List<OutboxEvent> received = sink.receivedFor(load.getId());
+        List<OutboxEvent> events = received.subList(received.size() - 2, received.size());
+        assertEquals(List.of(ChangeEventType.BOOKINGS_REJECTED, ChangeEventType.BOOKING_UPDATED),
+            events.stream().map(OutboxEvent::getEventType).toList());
+        assertTrue(events.get(0).getPayload().contains("\"count\":2"));
+        assertTrue(events.get(1).getPayload().contains(booking.getId().toString()));
+        assertTrue(events.get(1).getPayload().contains("\"status\":\"ACCEPTED\""));
+    }
+    
+    @Test
+    void relayPending_ShouldKeepEventsPending_WhenSinkFails() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        sink.failing = true;
+        
+        // When
+        int delivered = outboxRelay.relayPending();
+        
+        // Then
+        assertEquals(0, delivered);
+        OutboxEvent pending = findByLoadId(load.getId());
+        assertNull(pending.getPublishedAt());
+        assertEquals(1, pending.getAttempts());
+        assertTrue(pending.getLastError().contains("broker down"));
+        assertNotNull(pending.getNextAttemptAt());
+        
+        // When the sink recovers, the event waits out its backoff
+        sink.failing = false;
+        outboxRelay.relayPending();
+        
+        // Then
+        assertTrue(sink.receivedFor(load.getId()).isEmpty());
+        
+        // When the backoff has passed
+        makeRetriesDue();
+        outboxRelay.relayPending();
+        
+        // Then
+        assertEquals(1, sink.receivedFor(load.getId()).size());
+        assertNotNull(findByLoadId(load.getId()).getPublishedAt());
+    }
+    
+    @Test
+    void relayPending_ShouldParkOnlyTheRejectedEvent_AfterMaxAttempts() {
+        // Given
+        LoadDto poison = loadService.createLoad(newLoad());
+        LoadDto healthy = loadService.createLoad(newLoad());
+        sink.poisonLoadId = poison.getId();
+        
+        // When
+        outboxRelay.relayPending();
+        
+        // Then the rest of the batch is delivered
+        assertEquals(1, sink.receivedFor(healthy.getId()).size());
+        OutboxEvent pending = findByLoadId(poison.getId());
+        assertEquals(1, pending.getAttempts());
+        assertNull(pending.getFailedAt());
+        
+        // When retried until max-attempts
+        makeRetriesDue();
+        outboxRelay.relayPending();
+        makeRetriesDue();
+        outboxRelay.relayPending();
+        
+        // Then
+        OutboxEvent parked = findByLoadId(poison.getId());
+        assertEquals(3, parked.getAttempts());
+        assertNotNull(parked.getFailedAt());
+        assertNull(parked.getPublishedAt());
+        
+        // When the sink would accept it again
+        sink.poisonLoadId = null;
+        makeRetriesDue();
+        outboxRelay.relayPending();
+        
+        // Then a parked event is not retried
+        assertTrue(sink.receivedFor(poison.getId()).isEmpty());
+        assertEquals(3, findByLoadId(poison.getId()).getAttempts());
+    }
+    
+    @Test
+    void backoff_ShouldDoublePerAttempt_UpToMaxBackoff() {
+        assertEquals(Duration.ofSeconds(1), outboxRelay.backoff(1));
+        assertEquals(Duration.ofSeconds(4), outboxRelay.backoff(3));
+        assertEquals(Duration.ofMinutes(10), outboxRelay.backoff(40));
+    }
+    
+    @Test
+    void onChange_ShouldNotRecordEvents_WhenTransactionRollsBack() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        // When
+        LoadDto load = transactionTemplate.execute(status -> {
+            LoadDto created = loadService.createLoad(newLoad());
+            status.setRollbackOnly();
+            return created;
+        });
+        
+        // Then
+        assertTrue(outboxEventRepository.findAll().stream()
+            .noneMatch(event -> load.getId().equals(event.getLoadId())));
+    }
+    
+    private void makeRetriesDue() {
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = NULL WHERE published_at IS NULL");
+    }
+    
+    private OutboxEvent findByLoadId(UUID loadId) {
+        return outboxEventRepository.findAll().stream()
+            .filter(event -> loadId.equals(event.getLoadId()))
+            .findFirst()
+            .orElseThrow();
+    }
+    
+    static class RecordingSink implements OutboxSink {
+        
+        final List<OutboxEvent> received = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean failing;
+        volatile UUID poisonLoadId;
+        
+        @Override
+        public void send(List<OutboxEvent> events) throws IOException {
+            if (failing) {
+                throw new IOException("broker down");
+            }
+            if (events.stream().anyMatch(event -> poisonLoadId != null && poisonLoadId.equals(event.getLoadId()))) {
+                throw new IOException("rejected event for load " + poisonLoadId);
+            }
+            received.addAll(events);
+        }
+        
+        List<OutboxEvent> receivedFor(UUID loadId) {
+            synchronized (received) {
+                return received.stream().filter(event -> loadId.equals(event.getLoadId())).toList();
+            }
+        }
+    }
+    
+    @TestConfiguration
+    static class RecordingSinkConfig {
+        
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}
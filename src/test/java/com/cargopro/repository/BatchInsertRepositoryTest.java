@@ -0,0 +1,57 @@
+package com.cargopro.repository;
+
+import com.cargopro.entity.Facility;
+import com.cargopro.entity.Load;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=2"
+})
+@ActiveProfiles("test")
+@Transactional
+class BatchInsertRepositoryTest {
+    
+    @Autowired
+    private LoadRepository loadRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Test
+    void insertAll_ShouldDetachOnlyInsertedChunks() {
+        // Given a load the caller already manages in the same transaction
+        Load existing = loadRepository.saveAndFlush(newLoad());
+        List<Load> loads = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            loads.add(newLoad());
+        }
+        
+        // When
+        loadRepository.insertAll(loads);
+        
+        // Then
+        assertTrue(entityManager.contains(existing));
+        assertTrue(loads.stream().noneMatch(entityManager::contains));
+        assertTrue(loads.stream().allMatch(load -> loadRepository.existsById(load.getId())));
+    }
+    
+    private static Load newLoad() {
+        Facility facility = new Facility("Mumbai", "Delhi",
+            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3));
+        return new Load("SHIPPER001", facility, "Electronics", "Container", 2, 15.5, null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.dto.PageResponse;
+import com.cargopro.enums.CountMode;
+import com.cargopro.service.LoadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class LoadCountModeTest {
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Test
+    void getLoads_ShouldFallBackToExactCount_WhenDatabaseHasNoEstimates() {
+        // Given
+        String shipperId = createLoads(5);
+        
+        // When
+        PageResponse<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null),
+            PageRequest.of(0, 2, Sort.by("datePosted", "id")), CountMode.ESTIMATED);
+        
+        // Then H2 has no planner estimate, so the total is counted
+        assertEquals(5L, loads.getTotalElements());
+        assertEquals(3, loads.getTotalPages());
+        assertFalse(loads.isTotalEstimated());
+        assertEquals(2, loads.getNumberOfElements());
+    }
+    
+    @Test
+    void getLoads_ShouldPageByOffsetWithoutTotal_WhenCountIsNone() {
+        // Given
+        String shipperId = createLoads(5);
+        LoadFilter filter = new LoadFilter(shipperId, null, null);
+        
+        // When
+        PageResponse<LoadDto> middle = loadService.getLoads(filter,
+            PageRequest.of(1, 2, Sort.by("datePosted", "id")), CountMode.NONE);
+        PageResponse<LoadDto> last = loadService.getLoads(filter,
+            PageRequest.of(2, 2, Sort.by("datePosted", "id")), CountMode.NONE);
+        
+        // Then
+        assertNull(middle.getTotalElements());
+        assertEquals(2, middle.getNumberOfElements());
+        assertFalse(middle.isLast());
+        assertNull(last.getTotalElements());
+        assertEquals(1, last.getNumberOfElements());
+        assertTrue(last.isLast());
+        assertFalse(ids(middle).contains(ids(last).get(0)));
+    }
+    
+    @Test
+    void getLoads_ShouldMatchExactPage_WhenCountIsExact() {
+        // Given
+        String shipperId = createLoads(3);
+        LoadFilter filter = new LoadFilter(shipperId, null, null);
+        
+        // When
+        PageResponse<LoadDto> loads = loadService.getLoads(filter, PageRequest.of(0, 2), CountMode.EXACT);
+        
+        // Then
+        assertEquals(3L, loads.getTotalElements());
+        assertEquals(2, loads.getTotalPages());
+        assertTrue(loads.isFirst());
+        assertFalse(loads.isLast());
+    }
+    
+    private static List<UUID> ids(PageResponse<LoadDto> loads) {
+        return loads.getContent().stream().map(LoadDto::getId).toList();
+    }
+    
+    private String createLoads(int count) {
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LocalDateTime loadingDate = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < count; i++) {
+            loadService.createLoad(newLoad(shipperId, loadingDate, loadingDate.plusDays(2)));
+        }
+        return shipperId;
+    }
+}
@@ -0,0 +1,89 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.service.LoadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class LoadDateWindowTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 3, 1, 12, 0);
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Test
+    void getLoads_ShouldReturnLoadsPickingUpInWindow_IncludingFromAndExcludingTo() {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LoadDto atStart = loadService.createLoad(newLoad(shipperId, NOW, NOW.plusDays(2)));
+        LoadDto inside = loadService.createLoad(newLoad(shipperId, NOW.plusHours(47), NOW.plusDays(4)));
+        loadService.createLoad(newLoad(shipperId, NOW.plusHours(48), NOW.plusDays(4)));
+        loadService.createLoad(newLoad(shipperId, NOW.minusMinutes(1), NOW.plusDays(1)));
+        LoadFilter filter = new LoadFilter(shipperId, null, LoadStatus.POSTED, NOW, NOW.plusHours(48), null, null);
+        
+        // When
+        Page<LoadDto> loads = loadService.getLoads(filter, PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(2, loads.getTotalElements());
+        assertEquals(Set.of(atStart.getId(), inside.getId()), Set.copyOf(ids(loads.getContent())));
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldCombineOpenEndedLoadingAndUnloadingWindows() {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LoadDto match = loadService.createLoad(newLoad(shipperId, NOW.plusDays(1), NOW.plusDays(3)));
+        loadService.createLoad(newLoad(shipperId, NOW.plusDays(1), NOW.plusDays(6)));
+        loadService.createLoad(newLoad(shipperId, NOW.minusDays(1), NOW.plusDays(3)));
+        LoadFilter filter = new LoadFilter(shipperId, null, null, NOW, null, null, NOW.plusDays(5));
+        
+        // When
+        CursorPage<LoadDto> loads = loadService.getLoadsByCursor(filter, null, 10);
+        
+        // Then
+        assertEquals(List.of(match.getId()), ids(loads.getContent()));
+    }
+    
+    @Test
+    void getLoads_ShouldOrderByLoadingDateThenId_WhenSortedByLoadingDate() {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LoadDto later = loadService.createLoad(newLoad(shipperId, NOW.plusDays(2), NOW.plusDays(4)));
+        LoadDto earlier = loadService.createLoad(newLoad(shipperId, NOW.plusDays(1), NOW.plusDays(4)));
+        Sort sort = Sort.by(Sort.Order.asc("facility.loadingDate"), Sort.Order.asc("id"));
+        
+        // When
+        Page<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null), PageRequest.of(0, 10, sort));
+        
+        // Then
+        assertEquals(List.of(earlier.getId(), later.getId()), ids(loads.getContent()));
+    }
+    
+    private static List<UUID> ids(List<LoadDto> loads) {
+        return loads.stream().map(LoadDto::getId).toList();
+    }
+}
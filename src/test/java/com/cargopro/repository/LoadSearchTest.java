@@ -0,0 +1,95 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.enums.LaneMatch;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.service.LoadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newLoadOnLane;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class LoadSearchTest {
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Test
+    void searchLoads_ShouldMatchPrefixCaseInsensitively_AndCombineWithFilters() {
+        // Given
+        String truckType = "Tanker-" + UUID.randomUUID();
+        LoadDto match = loadService.createLoad(newLoadOnLane("Navi Mumbai Port", "New Delhi", truckType));
+        loadService.createLoad(newLoadOnLane("Navi Mumbai Port", "Kolkata", truckType));
+        loadService.createLoad(newLoadOnLane("Navi Mumbai Port", "New Delhi", "Flatbed"));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.searchLoads("navi mum", "NEW", LaneMatch.PREFIX, truckType,
+            LoadStatus.POSTED, null, 10);
+        
+        // Then
+        assertEquals(List.of(match.getId()), ids(result));
+    }
+    
+    @Test
+    void searchLoads_ShouldTreatWildcardsLiterally_WhenPrefixMatching() {
+        // Given
+        String truckType = "Tanker-" + UUID.randomUUID();
+        loadService.createLoad(newLoadOnLane("Pune", "Goa", truckType));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.searchLoads("%", null, LaneMatch.PREFIX, truckType, null, null, 10);
+        
+        // Then
+        assertTrue(result.getContent().isEmpty());
+    }
+    
+    @Test
+    void searchLoads_ShouldTolerateTypos_WhenFuzzyMatching() {
+        // Given
+        String truckType = "Tanker-" + UUID.randomUUID();
+        LoadDto match = loadService.createLoad(newLoadOnLane("Ahmedabad", "Bengaluru", truckType));
+        loadService.createLoad(newLoadOnLane("Chennai", "Bengaluru", truckType));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.searchLoads("Ahmadabad", "bangaluru", LaneMatch.FUZZY, truckType,
+            null, null, 10);
+        
+        // Then
+        assertEquals(List.of(match.getId()), ids(result));
+    }
+    
+    @Test
+    void searchLoads_ShouldPageNewestFirst_WhenCursorFollowed() {
+        // Given
+        String truckType = "Tanker-" + UUID.randomUUID();
+        LoadDto older = loadService.createLoad(newLoadOnLane("Jaipur", "Surat", truckType));
+        LoadDto newer = loadService.createLoad(newLoadOnLane("Jaipur", "Surat", truckType));
+        
+        // When
+        CursorPage<LoadDto> first = loadService.searchLoads("Jai", null, LaneMatch.PREFIX, truckType, null, null, 1);
+        CursorPage<LoadDto> second = loadService.searchLoads("Jai", null, LaneMatch.PREFIX, truckType, null,
+            first.getNextCursor(), 1);
+        
+        // Then
+        assertEquals(List.of(newer.getId()), ids(first));
+        assertEquals(List.of(older.getId()), ids(second));
+        assertFalse(second.isHasNext());
+    }
+    
+    private static List<UUID> ids(CursorPage<LoadDto> page) {
+        return page.getContent().stream().map(LoadDto::getId).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cargopro.repository;
+
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.enums.LoadStatus;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSpecificationsTest {
+    
+    private static final Map<Class<?>, Object> SAMPLE_VALUES = Map.of(
+        String.class, "SHIPPER001",
+        LoadStatus.class, LoadStatus.POSTED,
+        LocalDateTime.class, LocalDateTime.of(2024, 1, 20, 0, 0)
+    );
+    
+    @Test
+    void conditions_ShouldCoverEveryLoadFilterField() throws Exception {
+        for (Field field : LoadFilter.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            
+            // Given a filter with only this field set
+            LoadFilter filter = new LoadFilter();
+            field.setAccessible(true);
+            Object value = SAMPLE_VALUES.get(field.getType());
+            assertNotNull(value, "No sample value for LoadFilter." + field.getName());
+            field.set(filter, value);
+            
+            // When
+            List<Object> applied = LoadSpecifications.conditions(filter).stream()
+                .map(LoadSpecifications.FilterCondition::value)
+                .filter(Objects::nonNull)
+                .toList();
+            
+            // Then the query and the row estimate both apply it
+            assertEquals(List.of(value), applied, "LoadFilter." + field.getName());
+        }
+    }
+}
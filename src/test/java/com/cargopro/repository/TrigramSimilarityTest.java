@@ -0,0 +1,25 @@
+package com.cargopro.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramSimilarityTest {
+    
+    @Test
+    void similarity_ShouldMatchPgTrgm_ForMultiWordValues() {
+        // pg_trgm: SELECT similarity('word', 'two words') = 0.36363637
+        assertEquals(4.0 / 11, TrigramSimilarity.similarity("word", "two words"), 1e-6);
+    }
+    
+    @Test
+    void similarity_ShouldIgnoreCaseAndPunctuation() {
+        assertEquals(1.0, TrigramSimilarity.similarity("New Delhi", "new-delhi"), 1e-6);
+    }
+    
+    @Test
+    void similarity_ShouldReturnZero_WhenValueHasNoWords() {
+        assertEquals(0.0, TrigramSimilarity.similarity("--", "Delhi"), 1e-6);
+        assertEquals(0.0, TrigramSimilarity.similarity(null, "Delhi"), 1e-6);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.TopBids;
+import com.cargopro.enums.BookingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidBoardsTest {
+    
+    private final UUID loadId = UUID.randomUUID();
+    private final BidBoards bidBoards = new BidBoards(true, 100, Duration.ofMinutes(1));
+    
+    @Test
+    void putAfterCommit_ShouldApplyToBoardBeingBuilt() throws Exception {
+        // Given a board whose build read the bids before the new one committed
+        BookingDto existing = bid(21000.0);
+        BookingDto committedDuringBuild = bid(19000.0);
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<TopBids> build = CompletableFuture.supplyAsync(() ->
+            bidBoards.top(loadId, BookingStatus.PENDING, 5, () -> {
+                building.countDown();
+                await(release);
+                return List.of(existing);
+            }));
+        assertTrue(building.await(5, TimeUnit.SECONDS));
+        
+        // When the change is applied while the build is running
+        CompletableFuture<Void> put = CompletableFuture.runAsync(() -> bidBoards.putAfterCommit(committedDuringBuild));
+        Thread.sleep(100);
+        release.countDown();
+        build.get(5, TimeUnit.SECONDS);
+        put.get(5, TimeUnit.SECONDS);
+        
+        // Then
+        TopBids top = bidBoards.top(loadId, BookingStatus.PENDING, 5, () -> fail("Board should not be rebuilt"));
+        assertEquals(List.of(committedDuringBuild.getId(), existing.getId()),
+            top.getBids().stream().map(BookingDto::getId).toList());
+    }
+    
+    @Test
+    void putAfterCommit_ShouldSkipLoadWithoutBoard() {
+        // Given
+        BookingDto booking = bid(20000.0);
+        
+        // When
+        bidBoards.putAfterCommit(booking);
+        
+        // Then the board is built from the database when first asked for
+        TopBids top = bidBoards.top(loadId, BookingStatus.PENDING, 5, List::of);
+        assertTrue(top.getBids().isEmpty());
+    }
+    
+    private BookingDto bid(double rate) {
+        return new BookingDto(UUID.randomUUID(), loadId, "TRANS001", rate, null, BookingStatus.PENDING, null);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
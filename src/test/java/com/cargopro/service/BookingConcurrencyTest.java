@@ -0,0 +1,101 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.exception.BusinessException;
+import com.cargopro.repository.BookingRepository;
+import com.cargopro.repository.BookingSpecifications;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF"
+})
+@ActiveProfiles("test")
+class BookingConcurrencyTest {
+    
+    private static final int TRANSPORTERS = 1000;
+    private static final int BIDS_PER_TRANSPORTER = 3;
+    private static final int THREADS = 32;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Test
+    void createBooking_ShouldKeepOneBookingPerTransporter_WhenThousandsOfBidsRace() throws Exception {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        
+        List<BookingDto> bids = new ArrayList<>();
+        for (int transporter = 0; transporter < TRANSPORTERS; transporter++) {
+            for (int bid = 0; bid < BIDS_PER_TRANSPORTER; bid++) {
+                bids.add(newBooking(load.getId(), "TRANS" + transporter, 20000.0 + bid));
+            }
+        }
+        Collections.shuffle(bids);
+        
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (BookingDto bid : bids) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(bid);
+                    created.incrementAndGet();
+                } catch (BusinessException e) {
+                    duplicates.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        
+        // Then
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertEquals(TRANSPORTERS, created.get());
+        assertEquals(TRANSPORTERS * (BIDS_PER_TRANSPORTER - 1), duplicates.get());
+        assertEquals(TRANSPORTERS, bookingRepository.count(BookingSpecifications.hasLoadId(load.getId())));
+        assertEquals(LoadStatus.BOOKED, loadService.getLoadById(load.getId()).getStatus());
+        assertEquals(TRANSPORTERS, loadService.getLoadById(load.getId()).getBookingCounts().getPending());
+    }
+}
@@ -0,0 +1,68 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDecisionResponse;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.DecisionOutcome;
+import com.cargopro.enums.LoadStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class BookingDecisionsTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Test
+    void decideBookings_ShouldAcceptOnOneLoadAndRejectAllOnAnother() {
+        // Given
+        LoadDto accepting = loadService.createLoad(newLoad());
+        BookingDto winner = bid(accepting, "TRANS001");
+        BookingDto loser = bid(accepting, "TRANS002");
+        BookingDto untouched = bid(accepting, "TRANS003");
+        LoadDto declining = loadService.createLoad(newLoad());
+        BookingDto firstDeclined = bid(declining, "TRANS001");
+        BookingDto secondDeclined = bid(declining, "TRANS002");
+        
+        // When
+        BookingDecisionResponse response = bookingService.decideBookings(List.of(
+            new BookingDecision(winner.getId(), BookingStatus.ACCEPTED),
+            new BookingDecision(loser.getId(), BookingStatus.REJECTED),
+            new BookingDecision(firstDeclined.getId(), BookingStatus.REJECTED),
+            new BookingDecision(secondDeclined.getId(), BookingStatus.REJECTED),
+            new BookingDecision(UUID.randomUUID(), BookingStatus.REJECTED)));
+        
+        // Then
+        assertEquals(4, response.getApplied());
+        assertEquals(DecisionOutcome.FAILED, response.getResults().get(4).getOutcome());
+        assertEquals(BookingStatus.ACCEPTED, bookingService.getBookingById(winner.getId()).getStatus());
+        assertEquals(BookingStatus.REJECTED, bookingService.getBookingById(loser.getId()).getStatus());
+        assertEquals(BookingStatus.REJECTED, bookingService.getBookingById(untouched.getId()).getStatus());
+        assertEquals(LoadStatus.BOOKED, loadService.getLoadById(accepting.getId()).getStatus());
+        assertEquals(LoadStatus.POSTED, loadService.getLoadById(declining.getId()).getStatus());
+    }
+    
+    private BookingDto bid(LoadDto load, String transporterId) {
+        return bookingService.createBooking(newBooking(load.getId(), transporterId, 20000.0));
+    }
+}
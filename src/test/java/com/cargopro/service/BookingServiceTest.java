@@ -1,33 +1,57 @@
 package com.cargopro.service;
 
+import com.cargopro.dto.BidRateStats;
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDecisionResponse;
+import com.cargopro.dto.BookingDecisionResult;
 import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.dto.CursorPage;
+import com.cargopro.dto.KeysetCursor;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.TopBids;
 import com.cargopro.entity.Booking;
 import com.cargopro.entity.Load;
 import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.cargopro.enums.DecisionOutcome;
 import com.cargopro.enums.LoadStatus;
 import com.cargopro.exception.BusinessException;
 import com.cargopro.exception.ResourceNotFoundException;
 import com.cargopro.mapper.BookingMapper;
 import com.cargopro.repository.BookingRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,12 +66,19 @@ class BookingServiceTest {
     @Mock
     private LoadService loadService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private BidBoards bidBoards;
+    
     @InjectMocks
     private BookingService bookingService;
     
     private Booking testBooking;
     private BookingDto testBookingDto;
     private Load testLoad;
+    private LoadDto testLoadDto;
     private UUID testBookingId;
     private UUID testLoadId;
     
@@ -60,6 +91,10 @@ class BookingServiceTest {
         testLoad.setId(testLoadId);
         testLoad.setStatus(LoadStatus.POSTED);
         
+        testLoadDto = new LoadDto();
+        testLoadDto.setId(testLoadId);
+        testLoadDto.setStatus(LoadStatus.POSTED);
+        
         testBooking = new Booking(testLoad, "TRANS001", 25000.0, "Test booking");
         testBooking.setId(testBookingId);
         testBooking.setStatus(BookingStatus.PENDING);
@@ -71,10 +106,10 @@ class BookingServiceTest {
     @Test
     void createBooking_ShouldReturnBookingDto_WhenValidInput() {
         // Given
-        when(loadService.getLoadEntityById(testLoadId)).thenReturn(testLoad);
-        when(bookingRepository.existsByLoadIdAndTransporterId(testLoadId, "TRANS001")).thenReturn(false);
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(true);
+        when(loadService.getLoadReference(testLoadId)).thenReturn(testLoad);
         when(bookingMapper.toEntity(testBookingDto)).thenReturn(testBooking);
-        when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(testBooking);
         when(bookingMapper.toDto(testBooking)).thenReturn(testBookingDto);
         
         // When
@@ -84,37 +119,93 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals(testBookingDto.getTransporterId(), result.getTransporterId());
         assertEquals(BookingStatus.PENDING, result.getStatus());
-        verify(bookingRepository).save(any(Booking.class));
-        verify(loadService).updateLoadStatus(testLoadId, LoadStatus.BOOKED);
+        verify(bookingRepository).saveAndFlush(any(Booking.class));
+        verify(loadService, never()).getLoadById(any());
+        verify(loadService).updateLoadStatusIfCurrent(testLoadId, LoadStatus.POSTED, LoadStatus.BOOKED);
+        verify(loadService, never()).updateLoadStatus(any(), any());
+        verify(bidBoards).putAfterCommit(testBookingDto);
+    }
+    
+    @Test
+    void createBooking_ShouldPublishBookingCreatedEvent_WithLoadShipperAndTruckType() {
+        // Given
+        testLoad.setShipperId("SHIPPER001");
+        testLoad.setTruckType("Container");
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(true);
+        when(loadService.getLoadReference(testLoadId)).thenReturn(testLoad);
+        when(bookingMapper.toEntity(testBookingDto)).thenReturn(testBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(testBooking);
+        
+        // When
+        bookingService.createBooking(testBookingDto);
+        
+        // Then
+        ArgumentCaptor<ChangeEvent> event = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ChangeEventType.BOOKING_CREATED, event.getValue().getType());
+        assertEquals(testLoadId, event.getValue().getLoadId());
+        assertEquals("SHIPPER001", event.getValue().getShipperId());
+        assertEquals("Container", event.getValue().getTruckType());
+        assertEquals("PENDING", event.getValue().getStatus());
     }
     
     @Test
     void createBooking_ShouldThrowException_WhenLoadIsCancelled() {
         // Given
-        testLoad.setStatus(LoadStatus.CANCELLED);
-        when(loadService.getLoadEntityById(testLoadId)).thenReturn(testLoad);
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(false);
         
         // When & Then
         assertThrows(BusinessException.class, () -> bookingService.createBooking(testBookingDto));
-        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingRepository, never()).saveAndFlush(any(Booking.class));
     }
     
     @Test
     void createBooking_ShouldThrowException_WhenTransporterAlreadyHasBooking() {
         // Given
-        when(loadService.getLoadEntityById(testLoadId)).thenReturn(testLoad);
-        when(bookingRepository.existsByLoadIdAndTransporterId(testLoadId, "TRANS001")).thenReturn(true);
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(true);
+        when(loadService.getLoadReference(testLoadId)).thenReturn(testLoad);
+        when(bookingMapper.toEntity(testBookingDto)).thenReturn(testBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(new DataIntegrityViolationException(
+            "duplicate", new ConstraintViolationException("duplicate", new SQLException(), 
+                "PUBLIC.UQ_BOOKINGS_LOAD_TRANSPORTER")));
         
         // When & Then
         assertThrows(BusinessException.class, () -> bookingService.createBooking(testBookingDto));
-        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(loadService, never()).updateLoadStatusIfCurrent(any(), any(), any());
+    }
+    
+    @Test
+    void createBooking_ShouldThrowNotFound_WhenLoadIsDeletedConcurrently() {
+        // Given
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(true);
+        when(loadService.getLoadReference(testLoadId)).thenReturn(testLoad);
+        when(bookingMapper.toEntity(testBookingDto)).thenReturn(testBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(new DataIntegrityViolationException(
+            "fk", new ConstraintViolationException("fk", new SQLException(), "FK_BOOKINGS_LOAD")));
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> bookingService.createBooking(testBookingDto));
+    }
+    
+    @Test
+    void createBooking_ShouldPropagateException_WhenOtherConstraintViolated() {
+        // Given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+            "check", new ConstraintViolationException("check", new SQLException(), "CK_BOOKINGS_STATUS"));
+        when(loadService.addPendingBooking(testLoadId)).thenReturn(true);
+        when(loadService.getLoadReference(testLoadId)).thenReturn(testLoad);
+        when(bookingMapper.toEntity(testBookingDto)).thenReturn(testBooking);
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenThrow(violation);
+        
+        // When & Then
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, 
+            () -> bookingService.createBooking(testBookingDto)));
     }
     
     @Test
     void getBookingById_ShouldReturnBookingDto_WhenBookingExists() {
         // Given
-        when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
-        when(bookingMapper.toDto(testBooking)).thenReturn(testBookingDto);
+        when(bookingRepository.findDtoById(testBookingId)).thenReturn(Optional.of(testBookingDto));
         
         // When
         BookingDto result = bookingService.getBookingById(testBookingId);
@@ -122,28 +213,29 @@ class BookingServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testBookingId, result.getId());
-        verify(bookingRepository).findById(testBookingId);
+        verify(bookingRepository).findDtoById(testBookingId);
+        verify(bookingRepository, never()).findById(any());
+        verifyNoInteractions(bookingMapper);
     }
     
     @Test
     void getBookingById_ShouldThrowException_WhenBookingNotFound() {
         // Given
-        when(bookingRepository.findById(testBookingId)).thenReturn(Optional.empty());
+        when(bookingRepository.findDtoById(testBookingId)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> bookingService.getBookingById(testBookingId));
-        verify(bookingRepository).findById(testBookingId);
+        verify(bookingRepository).findDtoById(testBookingId);
     }
     
     @Test
     void getBookings_ShouldReturnPageOfBookings_WhenFiltersApplied() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Booking> bookingPage = new PageImpl<>(Arrays.asList(testBooking));
+        Page<BookingDto> bookingPage = new PageImpl<>(Arrays.asList(testBookingDto));
         
-        when(bookingRepository.findBookingsWithFilters(testLoadId, "TRANS001", BookingStatus.PENDING, pageable))
+        when(bookingRepository.findBookingDtosWithFilters(testLoadId, "TRANS001", BookingStatus.PENDING, pageable))
             .thenReturn(bookingPage);
-        when(bookingMapper.toDto(testBooking)).thenReturn(testBookingDto);
         
         // When
         Page<BookingDto> result = bookingService.getBookings(testLoadId, "TRANS001", BookingStatus.PENDING, pageable);
@@ -152,18 +244,81 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(testBookingDto.getTransporterId(), result.getContent().get(0).getTransporterId());
+        verifyNoInteractions(bookingMapper);
+    }
+    
+    @Test
+    void getBookingsByCursor_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(bookingRepository.findBookingDtosAfterCursor(testLoadId, null, null, 
+                cursor.getTimestamp(), cursor.getId(), pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testBookingDto), pageable, true));
+        
+        // When
+        CursorPage<BookingDto> result = bookingService.getBookingsByCursor(testLoadId, null, null, cursor.encode(), 1);
+        
+        // Then
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(testBookingDto.getRequestedAt(), next.getTimestamp());
+        assertEquals(testBookingId, next.getId());
+    }
+    
+    @Test
+    void exportBookings_ShouldPassEveryRowToConsumerAndCloseStream_WhenFiltersApplied() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamBookingDtosWithFilters(testLoadId, null, BookingStatus.PENDING))
+            .thenReturn(Stream.of(testBookingDto).onClose(() -> closed.set(true)));
+        List<BookingDto> exported = new ArrayList<>();
+        
+        // When
+        bookingService.exportBookings(testLoadId, null, BookingStatus.PENDING, exported::add);
+        
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals(testBookingId, exported.get(0).getId());
+        assertTrue(closed.get());
+    }
+    
+    @Test
+    void getTopBids_ShouldReadIndex_WhenBoardsDisabled() {
+        // Given
+        BidRateStats stats = new BidRateStats(3, 18000.0, 21000.0, 25000.0);
+        when(bookingRepository.findTopBidDtos(testLoadId, BookingStatus.PENDING, 2))
+            .thenReturn(List.of(testBookingDto));
+        when(bookingRepository.findBidRateStats(testLoadId, BookingStatus.PENDING)).thenReturn(stats);
+        
+        // When
+        TopBids result = bookingService.getTopBids(testLoadId, BookingStatus.PENDING, 2);
+        
+        // Then
+        assertEquals(List.of(testBookingDto), result.getBids());
+        assertSame(stats, result.getStats());
+        verify(loadService).requireLoad(testLoadId);
+        verify(bidBoards, never()).top(any(), any(), anyInt(), any());
+    }
+    
+    @Test
+    void getTopBids_ShouldThrowException_WhenKOutOfRange() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> bookingService.getTopBids(testLoadId, BookingStatus.PENDING, 0));
+        assertThrows(BusinessException.class, 
+            () -> bookingService.getTopBids(testLoadId, BookingStatus.PENDING, BookingService.MAX_TOP_BIDS + 1));
+        verifyNoInteractions(bookingRepository);
     }
     
     @Test
     void updateBooking_ShouldReturnUpdatedBookingDto_WhenBookingExists() {
         // Given
         BookingDto updateDto = new BookingDto();
-        updateDto.setStatus(BookingStatus.ACCEPTED);
+        updateDto.setStatus(BookingStatus.PENDING);
         
         when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
         when(bookingRepository.save(testBooking)).thenReturn(testBooking);
         when(bookingMapper.toDto(testBooking)).thenReturn(testBookingDto);
-        when(bookingRepository.findByLoadId(testLoadId)).thenReturn(Arrays.asList(testBooking));
         
         // When
         BookingDto result = bookingService.updateBooking(testBookingId, updateDto);
@@ -172,30 +327,181 @@ class BookingServiceTest {
         assertNotNull(result);
         verify(bookingMapper).updateEntityFromDto(updateDto, testBooking);
         verify(bookingRepository).save(testBooking);
+        verify(bookingRepository, never()).rejectOtherPendingBookings(any(), any());
+    }
+    
+    @Test
+    void updateBooking_ShouldRejectOtherPendingBookingsInBulk_WhenBookingAccepted() {
+        // Given
+        BookingDto updateDto = new BookingDto();
+        updateDto.setStatus(BookingStatus.ACCEPTED);
+        
+        when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
+        doAnswer(invocation -> {
+            testBooking.setStatus(BookingStatus.ACCEPTED);
+            return null;
+        }).when(bookingMapper).updateEntityFromDto(updateDto, testBooking);
+        when(bookingRepository.save(testBooking)).thenReturn(testBooking);
+        when(bookingMapper.toDto(testBooking)).thenReturn(testBookingDto);
+        when(bookingRepository.rejectOtherPendingBookings(testLoadId, testBookingId)).thenReturn(2);
+        
+        // When
+        bookingService.updateBooking(testBookingId, updateDto);
+        
+        // Then
+        verify(bookingRepository).rejectOtherPendingBookings(testLoadId, testBookingId);
+        verify(loadService, never()).updateLoadStatus(any(), any());
+        verify(loadService).adjustBookingCounts(testLoadId, 
+            Map.of(BookingStatus.PENDING, -3, BookingStatus.ACCEPTED, 1, BookingStatus.REJECTED, 2));
+        verify(bidBoards).invalidateAfterCommit(testLoadId);
+        ArgumentCaptor<ChangeEvent> events = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        ChangeEvent rejected = events.getAllValues().get(0);
+        assertEquals(ChangeEventType.BOOKINGS_REJECTED, rejected.getType());
+        assertEquals(testLoadId, rejected.getLoadId());
+        assertNull(rejected.getBookingId());
+        assertEquals("REJECTED", rejected.getStatus());
+        assertEquals(2, rejected.getCount());
+        ChangeEvent accepted = events.getAllValues().get(1);
+        assertEquals(ChangeEventType.BOOKING_UPDATED, accepted.getType());
+        assertEquals(testBookingId, accepted.getBookingId());
+        assertEquals("ACCEPTED", accepted.getStatus());
+    }
+    
+    @Test
+    void updateBooking_ShouldRevertLoadStatus_WhenLastNonRejectedBookingRejected() {
+        // Given
+        BookingDto updateDto = new BookingDto();
+        updateDto.setStatus(BookingStatus.REJECTED);
+        
+        when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
+        doAnswer(invocation -> {
+            testBooking.setStatus(BookingStatus.REJECTED);
+            return null;
+        }).when(bookingMapper).updateEntityFromDto(updateDto, testBooking);
+        when(bookingRepository.save(testBooking)).thenReturn(testBooking);
+        when(loadService.getBookingCounts(testLoadId)).thenReturn(new BookingCounts(0, 0, 1));
+        
+        // When
+        bookingService.updateBooking(testBookingId, updateDto);
+        
+        // Then
+        verify(loadService).adjustBookingCounts(testLoadId, 
+            Map.of(BookingStatus.PENDING, -1, BookingStatus.REJECTED, 1));
+        verify(loadService).updateLoadStatus(testLoadId, LoadStatus.POSTED);
+    }
+    
+    @Test
+    void decideBookings_ShouldHandleEachLoadOnce_WhenDecisionsSpanLoads() {
+        // Given
+        Load otherLoad = new Load();
+        otherLoad.setId(UUID.randomUUID());
+        Booking rejectedOnLoad = newBooking(testLoad, "TRANS002");
+        Booking rejectedOnOtherLoad = newBooking(otherLoad, "TRANS003");
+        Booking alsoRejectedOnOtherLoad = newBooking(otherLoad, "TRANS004");
+        when(bookingRepository.findAllWithLoadByIdIn(any())).thenReturn(List.of(
+            testBooking, rejectedOnLoad, rejectedOnOtherLoad, alsoRejectedOnOtherLoad));
+        when(bookingRepository.rejectOtherPendingBookings(testLoadId, testBookingId)).thenReturn(1);
+        when(loadService.getBookingCounts(otherLoad.getId())).thenReturn(new BookingCounts(0, 0, 2));
+        
+        // When
+        BookingDecisionResponse response = bookingService.decideBookings(List.of(
+            new BookingDecision(rejectedOnOtherLoad.getId(), BookingStatus.REJECTED),
+            new BookingDecision(testBookingId, BookingStatus.ACCEPTED),
+            new BookingDecision(rejectedOnLoad.getId(), BookingStatus.REJECTED),
+            new BookingDecision(alsoRejectedOnOtherLoad.getId(), BookingStatus.REJECTED)));
+        
+        // Then
+        assertEquals(4, response.getApplied());
+        assertEquals(BookingStatus.ACCEPTED, testBooking.getStatus());
+        assertEquals(BookingStatus.REJECTED, rejectedOnLoad.getStatus());
+        verify(bookingRepository, times(1)).findAllWithLoadByIdIn(any());
+        verify(bookingRepository, times(1)).rejectOtherPendingBookings(testLoadId, testBookingId);
+        verify(loadService, never()).getBookingCounts(testLoadId);
+        verify(loadService, times(1)).getBookingCounts(otherLoad.getId());
+        verify(loadService, times(1)).adjustBookingCounts(testLoadId, 
+            Map.of(BookingStatus.PENDING, -3, BookingStatus.ACCEPTED, 1, BookingStatus.REJECTED, 2));
+        verify(loadService, times(1)).adjustBookingCounts(otherLoad.getId(), 
+            Map.of(BookingStatus.PENDING, -2, BookingStatus.REJECTED, 2));
+        verify(loadService, times(1)).updateLoadStatus(otherLoad.getId(), LoadStatus.POSTED);
+        verify(loadService, never()).updateLoadStatus(eq(testLoadId), any());
+        verify(eventPublisher, times(5)).publishEvent(any(ChangeEvent.class));
+        verify(bookingRepository, never()).findById(any());
+    }
+    
+    @Test
+    void decideBookings_ShouldReportInvalidDecisionsPerItem_WithoutAbortingOthers() {
+        // Given
+        Booking otherBid = newBooking(testLoad, "TRANS002");
+        Booking alreadyRejected = newBooking(testLoad, "TRANS003");
+        alreadyRejected.setStatus(BookingStatus.REJECTED);
+        UUID unknownId = UUID.randomUUID();
+        when(bookingRepository.findAllWithLoadByIdIn(any())).thenReturn(List.of(testBooking, otherBid, alreadyRejected));
+        
+        // When
+        BookingDecisionResponse response = bookingService.decideBookings(Arrays.asList(
+            new BookingDecision(testBookingId, BookingStatus.ACCEPTED),
+            new BookingDecision(otherBid.getId(), BookingStatus.ACCEPTED),
+            new BookingDecision(testBookingId, BookingStatus.REJECTED),
+            new BookingDecision(unknownId, BookingStatus.REJECTED),
+            new BookingDecision(otherBid.getId(), BookingStatus.PENDING),
+            new BookingDecision(null, BookingStatus.REJECTED),
+            null,
+            new BookingDecision(alreadyRejected.getId(), BookingStatus.REJECTED)));
+        
+        // Then
+        List<BookingDecisionResult> results = response.getResults();
+        assertEquals(8, response.getReceived());
+        assertEquals(1, response.getApplied());
+        assertEquals(1, response.getUnchanged());
+        assertEquals(6, response.getFailed());
+        assertEquals(DecisionOutcome.APPLIED, results.get(0).getOutcome());
+        assertEquals(BookingStatus.ACCEPTED, results.get(0).getStatus());
+        assertTrue(results.get(1).getError().contains("Another booking for this load"));
+        assertTrue(results.get(2).getError().contains("already has a decision"));
+        assertEquals(unknownId, results.get(3).getBookingId());
+        assertTrue(results.get(3).getError().contains("not found"));
+        assertTrue(results.get(4).getError().contains("ACCEPTED or REJECTED"));
+        assertEquals(DecisionOutcome.FAILED, results.get(5).getOutcome());
+        assertEquals(DecisionOutcome.FAILED, results.get(6).getOutcome());
+        assertEquals(DecisionOutcome.UNCHANGED, results.get(7).getOutcome());
+        assertEquals(BookingStatus.PENDING, otherBid.getStatus());
+        verify(bookingRepository).rejectOtherPendingBookings(testLoadId, testBookingId);
+        verify(eventPublisher, times(1)).publishEvent(any(ChangeEvent.class));
+    }
+    
+    @Test
+    void decideBookings_ShouldThrowException_WhenTooManyDecisions() {
+        // Given
+        List<BookingDecision> decisions = Collections.nCopies(BookingService.MAX_DECISIONS + 1, 
+            new BookingDecision(testBookingId, BookingStatus.REJECTED));
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> bookingService.decideBookings(decisions));
+        verifyNoInteractions(bookingRepository);
     }
     
     @Test
     void deleteBooking_ShouldDeleteBookingAndUpdateLoadStatus_WhenLastBooking() {
         // Given
         when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
-        when(bookingRepository.findByLoadId(testLoadId)).thenReturn(Collections.emptyList());
+        when(loadService.getBookingCounts(testLoadId)).thenReturn(new BookingCounts(0, 0, 0));
         
         // When
         bookingService.deleteBooking(testBookingId);
         
         // Then
         verify(bookingRepository).delete(testBooking);
+        verify(loadService).adjustBookingCounts(testLoadId, Map.of(BookingStatus.PENDING, -1));
         verify(loadService).updateLoadStatus(testLoadId, LoadStatus.CANCELLED);
+        verify(bidBoards).removeAfterCommit(testLoadId, testBookingId);
     }
     
     @Test
     void deleteBooking_ShouldDeleteBookingAndRevertLoadStatus_WhenAllRemainingBookingsRejected() {
         // Given
-        Booking rejectedBooking = new Booking();
-        rejectedBooking.setStatus(BookingStatus.REJECTED);
-        
         when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
-        when(bookingRepository.findByLoadId(testLoadId)).thenReturn(Arrays.asList(rejectedBooking));
+        when(loadService.getBookingCounts(testLoadId)).thenReturn(new BookingCounts(0, 0, 2));
         
         // When
         bookingService.deleteBooking(testBookingId);
@@ -204,4 +510,24 @@ class BookingServiceTest {
         verify(bookingRepository).delete(testBooking);
         verify(loadService).updateLoadStatus(testLoadId, LoadStatus.POSTED);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void deleteBooking_ShouldKeepLoadStatus_WhenNonRejectedBookingsRemain() {
+        // Given
+        when(bookingRepository.findById(testBookingId)).thenReturn(Optional.of(testBooking));
+        when(loadService.getBookingCounts(testLoadId)).thenReturn(new BookingCounts(1, 0, 2));
+        
+        // When
+        bookingService.deleteBooking(testBookingId);
+        
+        // Then
+        verify(bookingRepository).delete(testBooking);
+        verify(loadService, never()).updateLoadStatus(any(), any());
+    }
+    
+    private static Booking newBooking(Load load, String transporterId) {
+        Booking booking = new Booking(load, transporterId, 20000.0, null);
+        booking.setId(UUID.randomUUID());
+        return booking;
+    }
+}
@@ -0,0 +1,119 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.BookingDecision;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.enums.LoadStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class LoadBookingCountsTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Test
+    void bookingCounts_ShouldFollowCreateAcceptAndDelete() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad("SHIPPER001"));
+        assertCounts(0, 0, 0, loadService.getLoadById(load.getId()).getBookingCounts());
+        BookingDto winner = bid(load, "TRANS001");
+        BookingDto loser = bid(load, "TRANS002");
+        bid(load, "TRANS003");
+        assertCounts(3, 0, 0, loadService.getLoadById(load.getId()).getBookingCounts());
+        
+        // When
+        winner.setStatus(BookingStatus.ACCEPTED);
+        bookingService.updateBooking(winner.getId(), winner);
+        
+        // Then
+        assertCounts(0, 1, 2, loadService.getLoadById(load.getId()).getBookingCounts());
+        
+        // When
+        bookingService.deleteBooking(winner.getId());
+        
+        // Then only rejected bookings remain, so the load is open again
+        LoadDto reopened = loadService.getLoadById(load.getId());
+        assertCounts(0, 0, 2, reopened.getBookingCounts());
+        assertEquals(LoadStatus.POSTED, reopened.getStatus());
+        bookingService.deleteBooking(loser.getId());
+        assertCounts(0, 0, 1, loadService.getLoadById(load.getId()).getBookingCounts());
+    }
+    
+    @Test
+    void bookingCounts_ShouldFollowBulkDecisions_AndCancelLoadWhenLastBookingDeleted() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad("SHIPPER001"));
+        BookingDto first = bid(load, "TRANS001");
+        BookingDto second = bid(load, "TRANS002");
+        
+        // When
+        bookingService.decideBookings(List.of(
+            new BookingDecision(first.getId(), BookingStatus.REJECTED),
+            new BookingDecision(second.getId(), BookingStatus.REJECTED)));
+        
+        // Then
+        LoadDto declined = loadService.getLoadById(load.getId());
+        assertCounts(0, 0, 2, declined.getBookingCounts());
+        assertEquals(LoadStatus.POSTED, declined.getStatus());
+        
+        // When
+        bookingService.deleteBooking(first.getId());
+        bookingService.deleteBooking(second.getId());
+        
+        // Then
+        LoadDto emptied = loadService.getLoadById(load.getId());
+        assertCounts(0, 0, 0, emptied.getBookingCounts());
+        assertEquals(LoadStatus.CANCELLED, emptied.getStatus());
+    }
+    
+    @Test
+    void getLoads_ShouldIncludeBookingCounts() {
+        // Given
+        String shipperId = "SHIPPER-" + UUID.randomUUID();
+        LoadDto load = loadService.createLoad(newLoad(shipperId));
+        bid(load, "TRANS001");
+        bid(load, "TRANS002");
+        
+        // When
+        List<LoadDto> loads = loadService.getLoads(new LoadFilter(shipperId, null, null), PageRequest.of(0, 10))
+            .getContent();
+        
+        // Then
+        assertEquals(1, loads.size());
+        assertCounts(2, 0, 0, loads.get(0).getBookingCounts());
+        assertEquals(2, loads.get(0).getBookingCounts().getTotal());
+    }
+    
+    private static void assertCounts(int pending, int accepted, int rejected, BookingCounts counts) {
+        assertEquals(pending, counts.getPending());
+        assertEquals(accepted, counts.getAccepted());
+        assertEquals(rejected, counts.getRejected());
+    }
+    
+    private BookingDto bid(LoadDto load, String transporterId) {
+        return bookingService.createBooking(newBooking(load.getId(), transporterId, 20000.0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.cargopro.service;
+
+import com.cargopro.config.CacheConfig;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.enums.LoadStatus;
+import com.cargopro.exception.BusinessException;
+import com.cargopro.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+@ActiveProfiles("test")
+class LoadCacheTest {
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Cache<Object, Object> loadCache;
+    private LoadDto load;
+    
+    @BeforeEach
+    void setUp() {
+        TransactionAwareCacheDecorator cache = (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.LOADS);
+        loadCache = ((CaffeineCache) cache.getTargetCache()).getNativeCache();
+        
+        load = loadService.createLoad(newLoad());
+    }
+    
+    @Test
+    void getLoadById_ShouldServeRepeatedLookupsFromCache() {
+        // Given
+        long hits = loadCache.stats().hitCount();
+        
+        // When
+        loadService.getLoadById(load.getId());
+        loadService.getLoadById(load.getId());
+        
+        // Then
+        assertEquals(hits + 1, loadCache.stats().hitCount());
+        assertNotNull(loadCache.getIfPresent(load.getId()));
+    }
+    
+    @Test
+    void updateLoad_ShouldEvictCachedLoad() {
+        // Given
+        loadService.getLoadById(load.getId());
+        load.setComment("Updated comment");
+        
+        // When
+        loadService.updateLoad(load.getId(), load);
+        
+        // Then
+        assertNull(loadCache.getIfPresent(load.getId()));
+        assertEquals("Updated comment", loadService.getLoadById(load.getId()).getComment());
+    }
+    
+    @Test
+    void createBooking_ShouldEvictCachedLoad_WhenLoadBecomesBooked() {
+        // Given
+        assertEquals(LoadStatus.POSTED, loadService.getLoadById(load.getId()).getStatus());
+        
+        // When
+        bookingService.createBooking(newBooking(load.getId(), "TRANS001", 25000.0));
+        
+        // Then
+        assertEquals(LoadStatus.BOOKED, loadService.getLoadById(load.getId()).getStatus());
+        
+        // A second bid leaves the status unchanged but changes the booking totals, so the entry is evicted again
+        assertNotNull(loadCache.getIfPresent(load.getId()));
+        bookingService.createBooking(newBooking(load.getId(), "TRANS002", 24000.0));
+        assertNull(loadCache.getIfPresent(load.getId()));
+        assertEquals(2, loadService.getLoadById(load.getId()).getBookingCounts().getPending());
+    }
+    
+    @Test
+    void createBooking_ShouldRejectCancelledLoad_WhenCachedLoadIsStale() {
+        // Given the cache still holds the load as POSTED after another instance cancelled it
+        loadService.getLoadById(load.getId());
+        jdbcTemplate.update("UPDATE loads SET status = 'CANCELLED' WHERE id = ?", load.getId());
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> bookingService.createBooking(
+            newBooking(load.getId(), "TRANS001", 25000.0)));
+    }
+    
+    @Test
+    void createBooking_ShouldThrowNotFound_WhenCachedLoadWasDeleted() {
+        // Given the cache still holds a load that another instance deleted
+        loadService.getLoadById(load.getId());
+        jdbcTemplate.update("DELETE FROM loads WHERE id = ?", load.getId());
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> bookingService.createBooking(
+            newBooking(load.getId(), "TRANS001", 25000.0)));
+    }
+    
+    @Test
+    void loadCache_ShouldExposeHitAndMissMetrics() {
+        // When
+        loadService.getLoadById(load.getId());
+        
+        // Then
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.LOADS).tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConfig.LOADS).tag("result", "miss").functionCounter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.LOADS).functionCounter());
+    }
+}
@@ -1,31 +1,56 @@
 package com.cargopro.service;
 
+import com.cargopro.dto.BatchResponse;
+import com.cargopro.dto.BookingCounts;
+import com.cargopro.dto.ChangeEvent;
+import com.cargopro.dto.CursorPage;
 import com.cargopro.dto.FacilityDto;
+import com.cargopro.dto.KeysetCursor;
 import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.LoadFilter;
+import com.cargopro.dto.PageResponse;
 import com.cargopro.entity.Facility;
 import com.cargopro.entity.Load;
+import com.cargopro.enums.BatchItemStatus;
+import com.cargopro.enums.ChangeEventType;
+import com.cargopro.enums.CountMode;
+import com.cargopro.enums.LaneMatch;
 import com.cargopro.enums.LoadStatus;
+import com.cargopro.exception.BusinessException;
 import com.cargopro.exception.ResourceNotFoundException;
 import com.cargopro.mapper.LoadMapper;
 import com.cargopro.repository.LoadRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +62,15 @@ class LoadServiceTest {
     @Mock
     private LoadMapper loadMapper;
     
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private LoadCache loadCache;
+    
     @InjectMocks
     private LoadService loadService;
     
@@ -77,13 +111,61 @@ class LoadServiceTest {
         assertEquals(testLoadDto.getShipperId(), result.getShipperId());
         assertEquals(LoadStatus.POSTED, result.getStatus());
         verify(loadRepository).save(any(Load.class));
+        
+        ArgumentCaptor<ChangeEvent> event = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ChangeEventType.LOAD_CREATED, event.getValue().getType());
+        assertEquals("SHIPPER001", event.getValue().getShipperId());
     }
     
     @Test
-    void getLoadById_ShouldReturnLoadDto_WhenLoadExists() {
+    void createLoads_ShouldCreateValidLoadsAndRejectInvalidOnes_WhenBatchIsMixed() {
         // Given
-        when(loadRepository.findById(testLoadId)).thenReturn(Optional.of(testLoad));
-        when(loadMapper.toDto(testLoad)).thenReturn(testLoadDto);
+        LoadDto invalidLoad = new LoadDto();
+        invalidLoad.setShipperId("");
+        List<LoadDto> batch = Arrays.asList(testLoadDto, invalidLoad, null, testLoadDto);
+        
+        when(loadMapper.toEntity(testLoadDto)).thenAnswer(invocation -> new Load());
+        when(loadRepository.insertAll(any())).thenAnswer(invocation -> {
+            List<Load> loads = invocation.getArgument(0);
+            loads.forEach(load -> load.setId(UUID.randomUUID()));
+            return loads;
+        });
+        
+        // When
+        BatchResponse result = loadService.createLoads(batch);
+        
+        // Then
+        assertEquals(4, result.getReceived());
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(BatchItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertNotNull(result.getResults().get(0).getId());
+        assertEquals(BatchItemStatus.REJECTED, result.getResults().get(1).getStatus());
+        assertTrue(result.getResults().get(1).getErrors().containsKey("shipperId"));
+        assertEquals(BatchItemStatus.REJECTED, result.getResults().get(2).getStatus());
+        assertEquals(3, result.getResults().get(3).getIndex());
+        assertEquals(BatchItemStatus.CREATED, result.getResults().get(3).getStatus());
+        verify(loadRepository).insertAll(argThat(loads -> loads.size() == 2 
+            && loads.stream().allMatch(load -> load.getStatus() == LoadStatus.POSTED)));
+        verify(loadRepository, never()).save(any());
+    }
+    
+    @Test
+    void createLoads_ShouldThrowException_WhenBatchExceedsMaximumSize() {
+        // Given
+        List<LoadDto> batch = new ArrayList<>(Collections.nCopies(LoadService.MAX_BATCH_SIZE + 1, testLoadDto));
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> loadService.createLoads(batch));
+        verifyNoInteractions(loadRepository);
+    }
+    
+    @Test
+    void getLoadById_ShouldReturnCachedLoad_WhenLoadExists() {
+        // Given
+        testLoadDto.setBookingCounts(new BookingCounts(2, 0, 1));
+        when(loadCache.getLoad(testLoadId)).thenReturn(testLoadDto);
         
         // When
         LoadDto result = loadService.getLoadById(testLoadId);
@@ -91,37 +173,231 @@ class LoadServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testLoadId, result.getId());
-        verify(loadRepository).findById(testLoadId);
+        assertEquals(2, result.getBookingCounts().getPending());
+        verifyNoInteractions(loadRepository);
+        verifyNoInteractions(loadMapper);
     }
     
     @Test
     void getLoadById_ShouldThrowException_WhenLoadNotFound() {
         // Given
-        when(loadRepository.findById(testLoadId)).thenReturn(Optional.empty());
+        when(loadCache.getLoad(testLoadId)).thenThrow(new ResourceNotFoundException("Load not found with id: " + testLoadId));
         
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> loadService.getLoadById(testLoadId));
-        verify(loadRepository).findById(testLoadId);
     }
     
     @Test
     void getLoads_ShouldReturnPageOfLoads_WhenFiltersApplied() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Load> loadPage = new PageImpl<>(Arrays.asList(testLoad));
-        Page<LoadDto> expectedPage = new PageImpl<>(Arrays.asList(testLoadDto));
+        Page<LoadDto> loadPage = new PageImpl<>(Arrays.asList(testLoadDto));
+        LoadFilter filter = new LoadFilter("SHIPPER001", "Container", LoadStatus.POSTED);
         
-        when(loadRepository.findLoadsWithFilters("SHIPPER001", "Container", LoadStatus.POSTED, pageable))
-            .thenReturn(loadPage);
-        when(loadMapper.toDto(testLoad)).thenReturn(testLoadDto);
+        when(loadRepository.findLoadDtosWithFilters(filter, pageable)).thenReturn(loadPage);
         
         // When
-        Page<LoadDto> result = loadService.getLoads("SHIPPER001", "Container", LoadStatus.POSTED, pageable);
+        Page<LoadDto> result = loadService.getLoads(filter, pageable);
         
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(testLoadDto.getShipperId(), result.getContent().get(0).getShipperId());
+        verifyNoInteractions(loadMapper);
+    }
+    
+    @Test
+    void getLoads_ShouldReturnEstimatedTotal_WhenCountIsEstimated() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 1);
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED);
+        when(loadRepository.findLoadDtoSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, true));
+        when(loadRepository.estimateCount(filter)).thenReturn(OptionalLong.of(48210));
+        
+        // When
+        PageResponse<LoadDto> result = loadService.getLoads(filter, pageable, CountMode.ESTIMATED);
+        
+        // Then
+        assertEquals(48210L, result.getTotalElements());
+        assertEquals(48210, result.getTotalPages());
+        assertTrue(result.isTotalEstimated());
+        assertFalse(result.isLast());
+        verify(loadRepository, never()).countLoadsWithFilters(any());
+        verify(loadRepository, never()).findLoadDtosWithFilters(any(), any());
+    }
+    
+    @Test
+    void getLoads_ShouldNotReportFewerRowsThanSeen_WhenEstimateIsStale() {
+        // Given
+        Pageable pageable = PageRequest.of(3, 10);
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED);
+        when(loadRepository.findLoadDtoSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(Collections.nCopies(10, testLoadDto), pageable, true));
+        when(loadRepository.estimateCount(filter)).thenReturn(OptionalLong.of(5));
+        
+        // When
+        PageResponse<LoadDto> result = loadService.getLoads(filter, pageable, CountMode.ESTIMATED);
+        
+        // Then
+        assertEquals(41L, result.getTotalElements());
+        assertTrue(result.isTotalEstimated());
+    }
+    
+    @Test
+    void getLoads_ShouldCountExactly_WhenNoEstimateIsAvailable() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        LoadFilter filter = new LoadFilter("SHIPPER001", null, null);
+        when(loadRepository.findLoadDtoSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, true));
+        when(loadRepository.estimateCount(filter)).thenReturn(OptionalLong.empty());
+        when(loadRepository.countLoadsWithFilters(filter)).thenReturn(3L);
+        
+        // When
+        PageResponse<LoadDto> result = loadService.getLoads(filter, pageable, CountMode.ESTIMATED);
+        
+        // Then
+        assertEquals(3L, result.getTotalElements());
+        assertFalse(result.isTotalEstimated());
+    }
+    
+    @Test
+    void getLoads_ShouldDeriveTotalFromLastPage_WithoutCounting() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 10);
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED);
+        when(loadRepository.findLoadDtoSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto, testLoadDto), pageable, false));
+        
+        // When
+        PageResponse<LoadDto> result = loadService.getLoads(filter, pageable, CountMode.ESTIMATED);
+        
+        // Then
+        assertEquals(12L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertFalse(result.isTotalEstimated());
+        assertTrue(result.isLast());
+        verify(loadRepository, never()).estimateCount(any());
+        verify(loadRepository, never()).countLoadsWithFilters(any());
+    }
+    
+    @Test
+    void getLoads_ShouldOmitTotal_WhenCountIsNone() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED);
+        when(loadRepository.findLoadDtoSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, true));
+        
+        // When
+        PageResponse<LoadDto> result = loadService.getLoads(filter, pageable, CountMode.NONE);
+        
+        // Then
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertEquals(1, result.getContent().size());
+        verify(loadRepository, never()).estimateCount(any());
+        verify(loadRepository, never()).countLoadsWithFilters(any());
+    }
+    
+    @Test
+    void getLoads_ShouldThrowException_WhenDateWindowIsEmpty() {
+        // Given
+        LocalDateTime from = LocalDateTime.now();
+        LoadFilter filter = new LoadFilter(null, null, LoadStatus.POSTED, from, from, null, null);
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> loadService.getLoads(filter, PageRequest.of(0, 10)));
+        verifyNoInteractions(loadRepository);
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldReturnNextCursor_WhenMoreResultsExist() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        LoadFilter filter = new LoadFilter("SHIPPER001", null, null);
+        when(loadRepository.findFirstLoadDtosByCursor(filter, pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, true));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.getLoadsByCursor(filter, null, 1);
+        
+        // Then
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(testLoadDto.getDatePosted(), next.getTimestamp());
+        assertEquals(testLoadId, next.getId());
+        verify(loadRepository, never()).findLoadDtosWithFilters(any(), any());
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), testLoadId);
+        LoadFilter filter = new LoadFilter(null, "Container", LoadStatus.POSTED);
+        when(loadRepository.findLoadDtosAfterCursor(filter, cursor.getTimestamp(), cursor.getId(), pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, false));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.getLoadsByCursor(filter, cursor.encode(), 10);
+        
+        // Then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(1, result.getContent().size());
+    }
+    
+    @Test
+    void getLoadsByCursor_ShouldThrowException_WhenCursorIsMalformed() {
+        // When & Then
+        assertThrows(BusinessException.class, 
+            () -> loadService.getLoadsByCursor(new LoadFilter(), "not-a-cursor", 10));
+    }
+    
+    @Test
+    void searchLoads_ShouldSeekPastCursorWithFilters_WhenCursorProvided() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), testLoadId);
+        when(loadRepository.searchLoadDtos(null, "Delhi", LaneMatch.FUZZY, "Container", LoadStatus.POSTED,
+                cursor.getTimestamp(), cursor.getId(), pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(testLoadDto), pageable, false));
+        
+        // When
+        CursorPage<LoadDto> result = loadService.searchLoads(" ", "Delhi", LaneMatch.FUZZY, "Container", 
+            LoadStatus.POSTED, cursor.encode(), 10);
+        
+        // Then
+        assertFalse(result.isHasNext());
+        assertEquals(1, result.getContent().size());
+    }
+    
+    @Test
+    void searchLoads_ShouldThrowException_WhenNoPointGiven() {
+        // When & Then
+        assertThrows(BusinessException.class, 
+            () -> loadService.searchLoads(null, "", LaneMatch.PREFIX, "Container", null, null, 10));
+        verifyNoInteractions(loadRepository);
+    }
+    
+    @Test
+    void exportLoads_ShouldPassEveryRowToConsumerAndCloseStream_WhenFiltersApplied() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        LoadFilter filter = new LoadFilter("SHIPPER001", null, LoadStatus.POSTED);
+        when(loadRepository.streamLoadDtosWithFilters(filter))
+            .thenReturn(Stream.of(testLoadDto, testLoadDto).onClose(() -> closed.set(true)));
+        List<LoadDto> exported = new ArrayList<>();
+        
+        // When
+        loadService.exportLoads(filter, exported::add);
+        
+        // Then
+        assertEquals(2, exported.size());
+        assertTrue(closed.get());
+        verify(loadRepository, never()).findLoadDtosWithFilters(any(), any());
     }
     
     @Test
@@ -168,4 +444,66 @@ class LoadServiceTest {
         assertEquals(LoadStatus.BOOKED, testLoad.getStatus());
         verify(loadRepository).save(testLoad);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void updateLoadStatusIfCurrent_ShouldReportNoChange_WhenLoadIsNoLongerInExpectedStatus() {
+        // Given
+        when(loadRepository.updateStatusIfCurrent(testLoadId, LoadStatus.POSTED, LoadStatus.BOOKED)).thenReturn(0);
+        
+        // When
+        boolean changed = loadService.updateLoadStatusIfCurrent(testLoadId, LoadStatus.POSTED, LoadStatus.BOOKED);
+        
+        // Then
+        assertFalse(changed);
+        verify(loadRepository, never()).findById(any());
+        verify(eventPublisher, never()).publishEvent(any(ChangeEvent.class));
+    }
+    
+    @Test
+    void updateLoadStatusIfCurrent_ShouldPublishStatusChange_WhenStatusChanged() {
+        // Given
+        testLoadDto.setStatus(LoadStatus.BOOKED);
+        when(loadRepository.updateStatusIfCurrent(testLoadId, LoadStatus.POSTED, LoadStatus.BOOKED)).thenReturn(1);
+        when(loadRepository.findDtoById(testLoadId)).thenReturn(Optional.of(testLoadDto));
+        
+        // When
+        boolean changed = loadService.updateLoadStatusIfCurrent(testLoadId, LoadStatus.POSTED, LoadStatus.BOOKED);
+        
+        // Then
+        assertTrue(changed);
+        ArgumentCaptor<ChangeEvent> event = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ChangeEventType.LOAD_STATUS_CHANGED, event.getValue().getType());
+        assertEquals("BOOKED", event.getValue().getStatus());
+        assertEquals("Container", event.getValue().getTruckType());
+    }
+    
+    @Test
+    void addPendingBooking_ShouldReportCancelledLoad_WhenRowWasNotUpdated() {
+        // Given
+        when(loadRepository.addPendingBookingUnlessCancelled(testLoadId)).thenReturn(0);
+        when(loadRepository.existsById(testLoadId)).thenReturn(true);
+        
+        // When & Then
+        assertFalse(loadService.addPendingBooking(testLoadId));
+    }
+    
+    @Test
+    void addPendingBooking_ShouldThrowException_WhenLoadNotFound() {
+        // Given
+        when(loadRepository.addPendingBookingUnlessCancelled(testLoadId)).thenReturn(0);
+        when(loadRepository.existsById(testLoadId)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> loadService.addPendingBooking(testLoadId));
+    }
+    
+    @Test
+    void requireLoad_ShouldThrowException_WhenLoadNotFound() {
+        // Given
+        when(loadRepository.existsById(testLoadId)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> loadService.requireLoad(testLoadId));
+    }
+}
@@ -0,0 +1,114 @@
+package com.cargopro.service;
+
+import com.cargopro.dto.BidRateStats;
+import com.cargopro.dto.BookingDto;
+import com.cargopro.dto.LoadDto;
+import com.cargopro.dto.TopBids;
+import com.cargopro.enums.BookingStatus;
+import com.cargopro.repository.BookingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.cargopro.TestFixtures.newBooking;
+import static com.cargopro.TestFixtures.newLoad;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Boards are enabled, so every answer from the service is checked against the index queries
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.cargopro=INFO",
+    "logging.level.org.springframework.web=INFO",
+    "cargopro.bids.boards.enabled=true"
+})
+@ActiveProfiles("test")
+class TopBidsTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private LoadService loadService;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Test
+    void getTopBids_ShouldMatchDatabase_AsBidsAreCreatedUpdatedAndDeleted() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        bid(load, "TRANS001", 24000.0);
+        BookingDto cheapest = bid(load, "TRANS002", 19000.0);
+        BookingDto middle = bid(load, "TRANS003", 21000.0);
+        
+        // When the board is built
+        TopBids initial = bookingService.getTopBids(load.getId(), BookingStatus.PENDING, 2);
+        
+        // Then
+        assertEquals(List.of(cheapest.getId(), middle.getId()), ids(initial));
+        assertStats(new BidRateStats(3, 19000.0, 64000.0 / 3, 24000.0), initial.getStats());
+        assertMatchesDatabase(load, 2);
+        
+        // When it is updated incrementally
+        middle.setProposedRate(18000.0);
+        bookingService.updateBooking(middle.getId(), middle);
+        bookingService.deleteBooking(cheapest.getId());
+        BookingDto latest = bid(load, "TRANS004", 20000.0);
+        
+        // Then
+        TopBids updated = bookingService.getTopBids(load.getId(), BookingStatus.PENDING, 2);
+        assertEquals(List.of(middle.getId(), latest.getId()), ids(updated));
+        assertStats(new BidRateStats(3, 18000.0, 62000.0 / 3, 24000.0), updated.getStats());
+        assertMatchesDatabase(load, 2);
+    }
+    
+    @Test
+    void getTopBids_ShouldRebuildBoard_WhenOtherBidsAreRejectedInBulk() {
+        // Given
+        LoadDto load = loadService.createLoad(newLoad());
+        BookingDto winner = bid(load, "TRANS001", 22000.0);
+        bid(load, "TRANS002", 19000.0);
+        bookingService.getTopBids(load.getId(), BookingStatus.PENDING, 5);
+        
+        // When
+        winner.setStatus(BookingStatus.ACCEPTED);
+        bookingService.updateBooking(winner.getId(), winner);
+        
+        // Then
+        assertEquals(0, bookingService.getTopBids(load.getId(), BookingStatus.PENDING, 5).getStats().getCount());
+        assertEquals(1, bookingService.getTopBids(load.getId(), BookingStatus.REJECTED, 5).getStats().getCount());
+        assertMatchesDatabase(load, 5);
+    }
+    
+    private void assertMatchesDatabase(LoadDto load, int k) {
+        for (BookingStatus status : BookingStatus.values()) {
+            TopBids fromBoard = bookingService.getTopBids(load.getId(), status, k);
+            assertEquals(bookingRepository.findTopBidDtos(load.getId(), status, k).stream().map(BookingDto::getId).toList(),
+                ids(fromBoard));
+            assertStats(bookingRepository.findBidRateStats(load.getId(), status), fromBoard.getStats());
+        }
+    }
+    
+    private static void assertStats(BidRateStats expected, BidRateStats actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMinRate(), actual.getMinRate());
+        assertEquals(expected.getMaxRate(), actual.getMaxRate());
+        if (expected.getAvgRate() == null) {
+            assertNull(actual.getAvgRate());
+        } else {
+            assertEquals(expected.getAvgRate(), actual.getAvgRate(), 0.001);
+        }
+    }
+    
+    private static List<UUID> ids(TopBids topBids) {
+        return topBids.getBids().stream().map(BookingDto::getId).toList();
+    }
+    
+    private BookingDto bid(LoadDto load, String transporterId, double rate) {
+        return bookingService.createBooking(newBooking(load.getId(), transporterId, rate));
+    }
+}